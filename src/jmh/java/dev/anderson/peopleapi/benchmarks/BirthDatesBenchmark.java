@@ -0,0 +1,52 @@
+package dev.anderson.peopleapi.benchmarks;
+
+import dev.anderson.peopleapi.domain.BirthDates;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BirthDatesBenchmark {
+
+  private final String text = "20/12/1990";
+
+  private final LocalDate date = LocalDate.of(1990, 12, 20);
+
+  @Benchmark
+  public LocalDate parse() {
+    return BirthDates.parse(text);
+  }
+
+  @Benchmark
+  public String format() {
+    return BirthDates.format(date);
+  }
+
+  /**
+   * What every parse helper did before the formatters were shared; kept as the reference point.
+   */
+  @Benchmark
+  public LocalDate parseWithFormatterPerCall() {
+    return LocalDate.parse(text, DateTimeFormatter.ofPattern("d/MM/yyyy"));
+  }
+
+  @Benchmark
+  public String formatWithFormatterPerCall() {
+    return date.format(DateTimeFormatter.ofPattern("dd/MM/yyyy")).replace("-", "/");
+  }
+
+}
@@ -0,0 +1,53 @@
+package dev.anderson.peopleapi.benchmarks;
+
+import dev.anderson.peopleapi.config.GlobalExceptionHandler;
+import dev.anderson.peopleapi.domain.DTO.ErrorDTO;
+import dev.anderson.peopleapi.exceptions.UserExistsException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Cost of answering a miss or a conflict with the typed result the services return, against
+ * building the conflict as an exception and turning it into the response body, as the controller
+ * advice still does when a rename loses a race on the unique key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+  private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler();
+
+  private final String name = "Anderson";
+
+  private final String birthDate = "20/12/1990";
+
+  @Benchmark
+  public ResponseEntity<?> notFoundResult() {
+    return new ResponseEntity<>(ErrorDTO.notFound(name, birthDate), null, 404);
+  }
+
+  @Benchmark
+  public ResponseEntity<?> alreadyExistsResult() {
+    return new ResponseEntity<>(ErrorDTO.alreadyExists(name, birthDate), null, 400);
+  }
+
+  @Benchmark
+  public ResponseEntity<?> alreadyExists() {
+    return globalExceptionHandler.handleUserExistsException(new UserExistsException(
+        "People with name: " + name + " and Birth Date: " + birthDate + "-> Already Exist"));
+  }
+
+}
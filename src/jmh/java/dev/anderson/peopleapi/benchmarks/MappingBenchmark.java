@@ -0,0 +1,78 @@
+package dev.anderson.peopleapi.benchmarks;
+
+import dev.anderson.peopleapi.domain.DTO.AddressDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleDTO;
+import dev.anderson.peopleapi.domain.entities.AddressEntity;
+import dev.anderson.peopleapi.domain.entities.PeopleEntity;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+  @Param({"4", "50"})
+  private int pageSize;
+
+  @Param({"3"})
+  private int addressesPerPeople;
+
+  private PeopleEntity peopleEntity;
+
+  private Page<PeopleEntity> peoplePage;
+
+  @Setup
+  public void setUp() {
+    var peopleList = new ArrayList<PeopleEntity>(pageSize);
+
+    for (int i = 0; i < pageSize; i++) {
+      peopleList.add(newPeople(i));
+    }
+    peopleEntity = peopleList.get(0);
+    peoplePage = new PageImpl<>(peopleList);
+  }
+
+  @Benchmark
+  public PeopleDTO peopleOf() {
+    return PeopleDTO.of(peopleEntity);
+  }
+
+  @Benchmark
+  public List<PeopleDTO> peopleFromPage() {
+    return PeopleDTO.fromPage(peoplePage);
+  }
+
+  @Benchmark
+  public List<AddressDTO> addressFromEntityList() {
+    return AddressDTO.fromEntityList(peopleEntity.getAddresses());
+  }
+
+  private PeopleEntity newPeople(int index) {
+    var addresses = new ArrayList<AddressEntity>(addressesPerPeople);
+
+    for (int i = 0; i < addressesPerPeople; i++) {
+      addresses.add(new AddressEntity("Rua " + i, String.valueOf(i), "São Paulo", "04001-000"));
+    }
+    return new PeopleEntity("Anderson" + index, LocalDate.of(1990, 12, 20), addresses);
+  }
+
+}
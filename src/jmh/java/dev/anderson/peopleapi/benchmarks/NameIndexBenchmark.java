@@ -0,0 +1,68 @@
+package dev.anderson.peopleapi.benchmarks;
+
+import dev.anderson.peopleapi.search.IndexedName;
+import dev.anderson.peopleapi.search.NameIndex;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of a type-ahead query (top 10 names for a two or three letter prefix) against an index of
+ * {@code people} random names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameIndexBenchmark {
+
+  @Param({"10000", "1000000"})
+  public int people;
+
+  private final NameIndex nameIndex = new NameIndex(null, null);
+
+  private final String[] prefixes = {"an", "ped", "ma", "jo", "lu"};
+
+  private int next;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(42);
+    var birthDate = LocalDate.of(1990, 12, 20);
+
+    for (long id = 1; id <= people; id++) {
+      nameIndex.put(new IndexedName(id, randomName(random), birthDate));
+    }
+  }
+
+  @Benchmark
+  public List<IndexedName> searchTop10() {
+    next = (next + 1) % prefixes.length;
+    return nameIndex.search(prefixes[next], null, 10);
+  }
+
+  private String randomName(Random random) {
+    var name = new char[6 + random.nextInt(6)];
+
+    for (int i = 0; i < name.length; i++) {
+      name[i] = (char) ('a' + random.nextInt(26));
+    }
+    name[0] = Character.toUpperCase(name[0]);
+    return new String(name);
+  }
+
+}
@@ -0,0 +1,107 @@
+package dev.anderson.peopleapi.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import dev.anderson.peopleapi.domain.DTO.AddressDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializes a page of people with each format the API negotiates. {@code writePage} measures the
+ * time per page, and {@code serializedSize} reports the size of one serialized page as its
+ * {@code bytes} secondary result, from a single shot since JMH sums event counters across
+ * iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+  @Param({"json", "json-blackbird", "cbor", "smile"})
+  private String format;
+
+  @Param({"50"})
+  private int pageSize;
+
+  @Param({"3"})
+  private int addressesPerPeople;
+
+  private ObjectWriter writer;
+
+  private List<PeopleDTO> page;
+
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    var factory = switch (format) {
+      case "cbor" -> new CBORFactory();
+      case "smile" -> new SmileFactory();
+      default -> new JsonFactory();
+    };
+    var objectMapper = new ObjectMapper(factory);
+
+    if (!format.equals("json")) {
+      objectMapper.registerModule(new BlackbirdModule());
+    }
+    writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+        .constructCollectionType(List.class, PeopleDTO.class));
+
+    page = new ArrayList<>(pageSize);
+    for (int i = 0; i < pageSize; i++) {
+      page.add(newPeople(i));
+    }
+  }
+
+  @Benchmark
+  public byte[] writePage() throws JsonProcessingException {
+    return writer.writeValueAsBytes(page);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 1)
+  public void serializedSize(PageBytes pageBytes) throws JsonProcessingException {
+    pageBytes.bytes = writePage().length;
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class PageBytes {
+
+    public long bytes;
+
+  }
+
+  private PeopleDTO newPeople(int index) {
+    var addresses = new ArrayList<AddressDTO>(addressesPerPeople);
+
+    for (int i = 0; i < addressesPerPeople; i++) {
+      addresses.add(new AddressDTO((long) index * addressesPerPeople + i, "Rua " + i,
+          String.valueOf(i), "São Paulo", "04001-000"));
+    }
+    return new PeopleDTO("Anderson" + index, "20/12/1990", addresses);
+  }
+
+}
@@ -0,0 +1,94 @@
+package dev.anderson.peopleapi.benchmarks;
+
+import dev.anderson.peopleapi.PeopleApiApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the whole application on a random port once with the servlet/JPA stack and once with the
+ * {@code reactive} profile, and drives both with the same high number of concurrent clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(1000)
+@Fork(1)
+public class StackComparisonBenchmark {
+
+  @Param({"servlet", "reactive"})
+  private String stack;
+
+  private ConfigurableApplicationContext applicationContext;
+
+  private HttpClient httpClient;
+
+  private HttpRequest findPeople;
+
+  private HttpRequest listAll;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException, InterruptedException {
+    applicationContext = new SpringApplicationBuilder(PeopleApiApplication.class)
+        .profiles(stack.equals("reactive") ? new String[]{"reactive"} : new String[0])
+        .properties(
+            "server.port=0",
+            "spring.main.banner-mode=off",
+            "logging.level.root=warn")
+        .run();
+
+    var port = applicationContext.getEnvironment().getProperty("local.server.port");
+    var baseUri = "http://localhost:" + port + "/api/v1/people";
+
+    httpClient = HttpClient.newHttpClient();
+    for (int i = 0; i < 100; i++) {
+      send(HttpRequest.newBuilder(URI.create(baseUri + "?name=Anderson" + i + "&birthDate=20/12/1990"))
+          .POST(HttpRequest.BodyPublishers.noBody())
+          .build());
+    }
+    findPeople = HttpRequest.newBuilder(
+        URI.create(baseUri + "?name=Anderson42&birthDate=20/12/1990")).build();
+    listAll = HttpRequest.newBuilder(URI.create(baseUri + "/all?page=3&size=10")).build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    applicationContext.close();
+  }
+
+  @Benchmark
+  public int findPeople() throws IOException, InterruptedException {
+    return send(findPeople);
+  }
+
+  @Benchmark
+  public int listAll() throws IOException, InterruptedException {
+    return send(listAll);
+  }
+
+  private int send(HttpRequest request) throws IOException, InterruptedException {
+    return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+
+}
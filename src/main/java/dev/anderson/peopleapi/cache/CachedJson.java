@@ -0,0 +1,57 @@
+package dev.anderson.peopleapi.cache;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A response body kept both as its DTO and as the JSON bytes it serializes to, along with the
+ * entity tag of the version it was read at. JSON responses are written straight from
+ * {@link #json()}; any other converter falls back to serializing the DTO.
+ */
+public final class CachedJson implements JsonSerializable {
+
+  private final Object body;
+
+  private final byte[] json;
+
+  private final String etag;
+
+  public CachedJson(Object body, byte[] json, String etag) {
+    this.body = body;
+    this.json = json;
+    this.etag = etag;
+  }
+
+  public Object body() {
+    return body;
+  }
+
+  public byte[] json() {
+    return json;
+  }
+
+  public String etag() {
+    return etag;
+  }
+
+  @Override
+  public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+    serializers.defaultSerializeValue(body, gen);
+  }
+
+  @Override
+  public void serializeWithType(JsonGenerator gen, SerializerProvider serializers,
+      TypeSerializer typeSer) throws IOException {
+    serialize(gen, serializers);
+  }
+
+  @Override
+  public String toString() {
+    return new String(json, StandardCharsets.UTF_8);
+  }
+
+}
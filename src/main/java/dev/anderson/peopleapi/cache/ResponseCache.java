@@ -0,0 +1,154 @@
+package dev.anderson.peopleapi.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.anderson.peopleapi.domain.DTO.CacheStatsDTO;
+import dev.anderson.peopleapi.domain.PeopleKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Serialized responses of the single-people reads, keyed by (name, birthDate).
+ *
+ * <p>Readers take a {@link #stamp()} before loading from the database and hand it back on
+ * {@code put}; a response loaded while any key was being invalidated is not kept, so a slow read
+ * can never re-cache data that a concurrent write has just replaced.
+ *
+ * <p>Loads on a miss go through {@link #loadPeople} and {@link #loadAddress}, which let
+ * concurrent readers of the same key share one database load (see {@link SingleFlight}).
+ */
+@Component
+public class ResponseCache {
+
+  private final Cache<PeopleKey, CachedJson> people;
+
+  private final Cache<PeopleKey, CachedJson> address;
+
+  private final SingleFlight<PeopleKey, CachedJson> peopleLoads;
+
+  private final SingleFlight<PeopleKey, CachedJson> addressLoads;
+
+  private final AtomicLong invalidations = new AtomicLong();
+
+  private final ObjectMapper objectMapper;
+
+  public ResponseCache(
+      ObjectMapper objectMapper,
+      @Value("${people.cache.maximum-bytes:67108864}") long maximumBytes,
+      @Value("${people.cache.expire-after-write:10m}") Duration expireAfterWrite,
+      @Value("${people.cache.single-flight.max-flights:10000}") int maxFlights,
+      @Value("${people.cache.single-flight.timeout:5s}") Duration flightTimeout,
+      MeterRegistry meterRegistry
+  ) {
+    this.objectMapper = objectMapper;
+    this.people = newCache(maximumBytes / 2, expireAfterWrite);
+    this.address = newCache(maximumBytes / 2, expireAfterWrite);
+    this.peopleLoads = new SingleFlight<>("people", maxFlights, flightTimeout, meterRegistry);
+    this.addressLoads = new SingleFlight<>("address", maxFlights, flightTimeout, meterRegistry);
+  }
+
+  public long stamp() {
+    return invalidations.get();
+  }
+
+  public CachedJson getPeople(PeopleKey key) {
+    return people.getIfPresent(key);
+  }
+
+  public CachedJson putPeople(PeopleKey key, Object body, String etag, long stamp) {
+    return put(people, key, body, etag, stamp);
+  }
+
+  /**
+   * Runs {@code loader}, which loads the people of {@code key} from the database and hands it to
+   * {@link #putPeople}, or returns {@code null} when there is none, or joins the same load that a
+   * concurrent reader started at {@code stamp}.
+   */
+  public CachedJson loadPeople(PeopleKey key, long stamp, Supplier<CachedJson> loader) {
+    return peopleLoads.load(key, stamp, loader);
+  }
+
+  public CachedJson getAddress(PeopleKey key) {
+    return address.getIfPresent(key);
+  }
+
+  public CachedJson putAddress(PeopleKey key, Object body, String etag, long stamp) {
+    return put(address, key, body, etag, stamp);
+  }
+
+  public CachedJson loadAddress(PeopleKey key, long stamp, Supplier<CachedJson> loader) {
+    return addressLoads.load(key, stamp, loader);
+  }
+
+  /**
+   * Drops every response of the given keys now and, when called inside a transaction, once more
+   * after it completes, so readers that loaded the pre-commit state cannot keep it.
+   */
+  public void invalidate(PeopleKey... keys) {
+    evict(keys);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          evict(keys);
+        }
+      });
+    }
+  }
+
+  public List<CacheStatsDTO> stats() {
+    return List.of(
+        CacheStatsDTO.of("people", people),
+        CacheStatsDTO.of("address", address)
+    );
+  }
+
+  private CachedJson put(Cache<PeopleKey, CachedJson> cache, PeopleKey key, Object body,
+      String etag, long stamp) {
+    var cachedJson = new CachedJson(body, serialize(body), etag);
+
+    if (invalidations.get() == stamp) {
+      cache.put(key, cachedJson);
+      if (invalidations.get() != stamp) {
+        cache.invalidate(key);
+      }
+    }
+    return cachedJson;
+  }
+
+  private void evict(PeopleKey... keys) {
+    invalidations.incrementAndGet();
+    for (PeopleKey key : keys) {
+      people.invalidate(key);
+      address.invalidate(key);
+    }
+  }
+
+  private byte[] serialize(Object body) {
+    try {
+      return objectMapper.writeValueAsBytes(body);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Cache<PeopleKey, CachedJson> newCache(long maximumBytes,
+      Duration expireAfterWrite) {
+    return Caffeine.newBuilder()
+        .maximumWeight(maximumBytes)
+        .<PeopleKey, CachedJson>weigher((key, value) -> value.json().length)
+        .expireAfterWrite(expireAfterWrite)
+        .recordStats()
+        .build();
+  }
+
+}
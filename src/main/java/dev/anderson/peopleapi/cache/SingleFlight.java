@@ -0,0 +1,117 @@
+package dev.anderson.peopleapi.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent identical loads share one execution: the first caller of a key runs the loader
+ * and callers arriving while it runs wait up to {@code timeout} for its result instead of running
+ * their own, then load on their own if it has not come.
+ *
+ * <p>A caller only joins a load started at the same {@link ResponseCache#stamp()}, so a load that
+ * began before a write is never handed to a reader that arrived after it. A failed load is removed
+ * like a finished one and its exception is rethrown to every caller that joined it. At most
+ * {@code maxFlights} keys are in flight; past that, callers load on their own.
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+  private final int maxFlights;
+
+  private final Duration timeout;
+
+  private final Counter leaders;
+
+  private final Counter coalesced;
+
+  private final Counter timeouts;
+
+  private final Counter bypassed;
+
+  public SingleFlight(String name, int maxFlights, Duration timeout, MeterRegistry meterRegistry) {
+    this.maxFlights = maxFlights;
+    this.timeout = timeout;
+    this.leaders = counter(meterRegistry, name, "leader");
+    this.coalesced = counter(meterRegistry, name, "coalesced");
+    this.timeouts = counter(meterRegistry, name, "timeout");
+    this.bypassed = counter(meterRegistry, name, "bypassed");
+    Gauge.builder("people.singleflight.inflight", flights, ConcurrentHashMap::size)
+        .tag("cache", name)
+        .register(meterRegistry);
+  }
+
+  public V load(K key, long stamp, Supplier<V> loader) {
+    var own = new Flight<V>(stamp, new CompletableFuture<>());
+
+    while (true) {
+      var current = flights.get(key);
+
+      if (current != null && current.stamp() == stamp) {
+        return join(current, loader);
+      }
+      if (current == null && flights.size() >= maxFlights) {
+        bypassed.increment();
+        return loader.get();
+      }
+      if (current == null
+          ? flights.putIfAbsent(key, own) == null
+          : flights.replace(key, current, own)) {
+        break;
+      }
+    }
+
+    leaders.increment();
+    try {
+      var value = loader.get();
+
+      own.result().complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      own.result().completeExceptionally(e);
+      throw e;
+    } finally {
+      flights.remove(key, own);
+    }
+  }
+
+  private V join(Flight<V> flight, Supplier<V> loader) {
+    try {
+      var value = flight.result().get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+
+      coalesced.increment();
+      return value;
+    } catch (TimeoutException e) {
+      timeouts.increment();
+      return loader.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw (Error) e.getCause();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a concurrent load", e);
+    }
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String name, String outcome) {
+    return Counter.builder("people.singleflight.calls")
+        .tag("cache", name)
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private record Flight<V>(long stamp, CompletableFuture<V> result) {
+
+  }
+
+}
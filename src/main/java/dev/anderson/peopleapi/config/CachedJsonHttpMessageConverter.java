@@ -0,0 +1,44 @@
+package dev.anderson.peopleapi.config;
+
+import dev.anderson.peopleapi.cache.CachedJson;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+public class CachedJsonHttpMessageConverter extends AbstractHttpMessageConverter<CachedJson> {
+
+  public CachedJsonHttpMessageConverter() {
+    super(MediaType.APPLICATION_JSON);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return CachedJson.class.equals(clazz);
+  }
+
+  @Override
+  protected boolean canRead(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected CachedJson readInternal(Class<? extends CachedJson> clazz,
+      HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("CachedJson is write only", inputMessage);
+  }
+
+  @Override
+  protected Long getContentLength(CachedJson cachedJson, MediaType contentType) {
+    return (long) cachedJson.json().length;
+  }
+
+  @Override
+  protected void writeInternal(CachedJson cachedJson, HttpOutputMessage outputMessage)
+      throws IOException {
+    outputMessage.getBody().write(cachedJson.json());
+  }
+
+}
@@ -0,0 +1,95 @@
+package dev.anderson.peopleapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Opt-in with {@code people.datasource.routing.enabled=true}: read-only transactions run on the
+ * replica pool ({@code people.datasource.replica.*}, any Hikari property), the rest on the primary
+ * pool ({@code spring.datasource.*}). Both pools are beans of their own, so each gets its
+ * {@code hikaricp_*} metrics under its pool name.
+ *
+ * <p>The routing DataSource sits behind a {@link LazyConnectionDataSourceProxy}, so the physical
+ * connection is only taken on the first statement, once the transaction's read-only flag is known.
+ * Hibernate releases it after each transaction instead of holding it for the whole request.
+ */
+@Configuration
+@ConditionalOnProperty(name = "people.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    var dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  @ConfigurationProperties("people.datasource.replica")
+  public HikariDataSource replicaDataSource() {
+    var dataSource = new HikariDataSource();
+
+    dataSource.setPoolName("replica");
+    return dataSource;
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  public ReplicaMonitor replicaMonitor(
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      @Value("${people.datasource.routing.lag-query:select 0}") String lagQuery,
+      @Value("${people.datasource.routing.max-lag:5s}") Duration maxLag,
+      @Value("${people.datasource.routing.check-interval:5s}") Duration checkInterval
+  ) {
+    return new ReplicaMonitor(replicaDataSource, lagQuery, maxLag, checkInterval);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      ReplicaMonitor replicaMonitor,
+      @Value("${people.datasource.routing.fallback-to-primary:true}") boolean fallbackToPrimary
+  ) {
+    var routingDataSource = new ReadWriteRoutingDataSource(
+        primaryDataSource, replicaDataSource, replicaMonitor, fallbackToPrimary);
+
+    routingDataSource.afterPropertiesSet();
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+    return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+        PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+  }
+
+  /**
+   * For local setups where the replica is a separate, unreplicated database (two H2 instances):
+   * gives it the same schema as the primary.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "people.datasource.routing.migrate-replica", havingValue = "true")
+  public InitializingBean replicaMigration(
+      @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+    return () -> Flyway.configure().dataSource(replicaDataSource).load().migrate();
+  }
+
+}
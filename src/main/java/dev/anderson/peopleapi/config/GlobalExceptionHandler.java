@@ -1,15 +1,12 @@
 package dev.anderson.peopleapi.config;
 
+import dev.anderson.peopleapi.domain.DTO.ErrorDTO;
+import dev.anderson.peopleapi.exceptions.InvalidCursorException;
 import dev.anderson.peopleapi.exceptions.UserExistsException;
-import dev.anderson.peopleapi.exceptions.UserNotFoundException;
 import java.time.format.DateTimeParseException;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -17,33 +14,28 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 public class GlobalExceptionHandler {
 
   @ExceptionHandler(UserExistsException.class)
-  public ResponseEntity<Map<String, List<String>>> handleUserExistsException(
+  public ResponseEntity<ErrorDTO> handleUserExistsException(
       UserExistsException ex) {
-    List<String> errors = Collections.singletonList(ex.getMessage());
-
-    return new ResponseEntity<>(getErrorsMap(errors), new HttpHeaders(), HttpStatus.BAD_REQUEST);
+    return new ResponseEntity<>(ErrorDTO.of(ex.getMessage()), HttpStatus.BAD_REQUEST);
   }
 
   @ExceptionHandler(DateTimeParseException.class)
-  public ResponseEntity<Map<String, List<String>>> handleUserDateTimeParseException(
+  public ResponseEntity<ErrorDTO> handleUserDateTimeParseException(
       DateTimeParseException ex) {
-    List<String> errors = Collections.singletonList(ex.getMessage());
-
-    return new ResponseEntity<>(getErrorsMap(errors), new HttpHeaders(), HttpStatus.BAD_REQUEST);
+    return new ResponseEntity<>(ErrorDTO.of(ex.getMessage()), HttpStatus.BAD_REQUEST);
   }
 
-  @ExceptionHandler(UserNotFoundException.class)
-  public ResponseEntity<Map<String, List<String>>> handleUserNotFoundException(
-      UserNotFoundException ex) {
-    List<String> errors = Collections.singletonList(ex.getMessage());
-
-    return new ResponseEntity<>(getErrorsMap(errors), new HttpHeaders(), HttpStatus.NOT_FOUND);
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ErrorDTO> handleInvalidCursorException(
+      InvalidCursorException ex) {
+    return new ResponseEntity<>(ErrorDTO.of(ex.getMessage()), HttpStatus.BAD_REQUEST);
   }
 
-  private Map<String, List<String>> getErrorsMap(List<String> errors) {
-    Map<String, List<String>> errorResponse = new HashMap<>();
-    errorResponse.put("errors", errors);
-    return errorResponse;
+  @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+  public ResponseEntity<ErrorDTO> handleObjectOptimisticLockingFailureException(
+      ObjectOptimisticLockingFailureException ex) {
+    return new ResponseEntity<>(
+        ErrorDTO.of("People was modified concurrently, retry the request"), HttpStatus.CONFLICT);
   }
 
 }
@@ -0,0 +1,39 @@
+package dev.anderson.peopleapi.config;
+
+import dev.anderson.peopleapi.grpc.GrpcExceptionInterceptor;
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Opt-in with {@code people.grpc.enabled=true}: serves the gRPC services on
+ * {@code people.grpc.port}, next to Tomcat, over the same service implementations the REST
+ * controllers use.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "people.grpc.enabled", havingValue = "true")
+public class GrpcServerConfig {
+
+  @Bean(initMethod = "start", destroyMethod = "shutdown")
+  public Server grpcServer(
+      List<BindableService> grpcServices,
+      @Value("${people.grpc.port:9090}") int port
+  ) {
+    var serverBuilder = ServerBuilder.forPort(port);
+
+    for (BindableService grpcService : grpcServices) {
+      serverBuilder.addService(
+          ServerInterceptors.intercept(grpcService, new GrpcExceptionInterceptor()));
+    }
+    return serverBuilder.build();
+  }
+
+}
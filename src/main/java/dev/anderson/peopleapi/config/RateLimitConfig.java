@@ -0,0 +1,97 @@
+package dev.anderson.peopleapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.anderson.peopleapi.ratelimit.LoadShedder;
+import dev.anderson.peopleapi.ratelimit.LoadSheddingFilter;
+import dev.anderson.peopleapi.ratelimit.RateLimitFilter;
+import dev.anderson.peopleapi.ratelimit.RateLimitProperties;
+import dev.anderson.peopleapi.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Opt-in filters in front of {@code /api/*}, both after the HTTP metrics filter so rejected
+ * requests still show up in {@code http_server_requests}:
+ * {@code people.rate-limit.enabled=true} limits each client with {@link RateLimiter}, and
+ * {@code people.load-shedding.enabled=true} rejects part of the traffic while the connection pool
+ * is saturated, following {@link LoadShedder}.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "people.rate-limit.enabled", havingValue = "true")
+  public RateLimiter rateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+    var rateLimiter = new RateLimiter(properties, System::nanoTime);
+
+    Gauge.builder("people.ratelimit.buckets", rateLimiter, RateLimiter::bucketCount)
+        .register(meterRegistry);
+    return rateLimiter;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "people.rate-limit.enabled", havingValue = "true")
+  public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+      RateLimiter rateLimiter,
+      RateLimitProperties properties,
+      MeterRegistry meterRegistry,
+      ObjectMapper objectMapper
+  ) {
+    var registration = new FilterRegistrationBean<>(new RateLimitFilter(
+        rateLimiter, properties.apiKeyHeader(), meterRegistry, objectMapper));
+
+    registration.addUrlPatterns("/api/*");
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+    return registration;
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  @ConditionalOnProperty(name = "people.load-shedding.enabled", havingValue = "true")
+  public LoadShedder loadShedder(
+      MeterRegistry meterRegistry,
+      @Value("${people.load-shedding.max-acquire-time:100ms}") Duration maxAcquireTime,
+      @Value("${people.load-shedding.check-interval:1s}") Duration checkInterval,
+      @Value("${people.load-shedding.step:0.1}") double step,
+      @Value("${people.load-shedding.max-ratio:0.9}") double maxRatio
+  ) {
+    var loadShedder = new LoadShedder(
+        meterRegistry, maxAcquireTime, checkInterval, step, maxRatio);
+
+    Gauge.builder("people.loadshedding.ratio", loadShedder, LoadShedder::ratio)
+        .register(meterRegistry);
+    TimeGauge.builder("people.loadshedding.acquire.time", loadShedder, TimeUnit.SECONDS,
+            shedder -> shedder.acquireTime(TimeUnit.SECONDS))
+        .register(meterRegistry);
+    return loadShedder;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "people.load-shedding.enabled", havingValue = "true")
+  public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(
+      LoadShedder loadShedder,
+      MeterRegistry meterRegistry,
+      ObjectMapper objectMapper
+  ) {
+    var registration = new FilterRegistrationBean<>(
+        new LoadSheddingFilter(loadShedder, meterRegistry, objectMapper));
+
+    registration.addUrlPatterns("/api/*");
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+    return registration;
+  }
+
+}
@@ -0,0 +1,22 @@
+package dev.anderson.peopleapi.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * The {@code reactive} profile serves the API with WebFlux and R2DBC instead of MVC and JPA.
+ * Tomcat stays on the classpath for the servlet stack, so Netty is picked explicitly here; JDBC is
+ * still used at startup to run the Flyway migrations on the same database.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+  @Bean
+  public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+    return new NettyReactiveWebServerFactory();
+  }
+
+}
@@ -0,0 +1,48 @@
+package dev.anderson.peopleapi.config;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections requested inside a read-only transaction to the replica and everything else to
+ * the primary. While the {@link ReplicaMonitor} reports the replica as down or lagging, reads fall
+ * back to the primary unless that fallback is disabled.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  enum Route {
+    PRIMARY,
+    REPLICA
+  }
+
+  private final ReplicaMonitor replicaMonitor;
+
+  private final boolean fallbackToPrimary;
+
+  public ReadWriteRoutingDataSource(
+      DataSource primary,
+      DataSource replica,
+      ReplicaMonitor replicaMonitor,
+      boolean fallbackToPrimary
+  ) {
+    this.replicaMonitor = replicaMonitor;
+    this.fallbackToPrimary = fallbackToPrimary;
+    setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return Route.PRIMARY;
+    }
+    if (fallbackToPrimary && !replicaMonitor.isUsable()) {
+      return Route.PRIMARY;
+    }
+    return Route.REPLICA;
+  }
+
+}
@@ -0,0 +1,83 @@
+package dev.anderson.peopleapi.config;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Runs {@code lagQuery} against the replica every {@code checkInterval}. The query returns the
+ * replication lag in seconds ({@code select 0} on a database that cannot report it, which then
+ * only checks that the replica answers). The replica is usable while the last check succeeded
+ * and reported no more than {@code maxLag}.
+ */
+public class ReplicaMonitor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaMonitor.class);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final String lagQuery;
+
+  private final Duration maxLag;
+
+  private final Duration checkInterval;
+
+  private ScheduledExecutorService scheduler;
+
+  private volatile boolean usable = true;
+
+  public ReplicaMonitor(
+      DataSource replica,
+      String lagQuery,
+      Duration maxLag,
+      Duration checkInterval
+  ) {
+    this.jdbcTemplate = new JdbcTemplate(replica);
+    this.lagQuery = lagQuery;
+    this.maxLag = maxLag;
+    this.checkInterval = checkInterval;
+  }
+
+  public boolean isUsable() {
+    return usable;
+  }
+
+  public void check() {
+    try {
+      var lag = jdbcTemplate.queryForObject(lagQuery, Double.class);
+      var lagging = lag != null && lag * 1000 > maxLag.toMillis();
+
+      if (lagging && usable) {
+        LOGGER.warn("Replica lag of {}s exceeds {}, reading from primary", lag, maxLag);
+      }
+      usable = !lagging;
+    } catch (RuntimeException e) {
+      if (usable) {
+        LOGGER.warn("Replica check failed, reading from primary", e);
+      }
+      usable = false;
+    }
+  }
+
+  public void start() {
+    scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      var thread = new Thread(runnable, "replica-monitor");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(
+        this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  public void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+}
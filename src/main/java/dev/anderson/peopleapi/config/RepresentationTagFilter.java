@@ -0,0 +1,164 @@
+package dev.anderson.peopleapi.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * The reads answer JSON, CBOR or Smile under the same URL depending on {@code Accept}, so every
+ * GET gets {@code Vary: Accept}, and the binary representations get their own entity tag: the tag
+ * the services compute is suffixed with the format on the way out, and on the way in only the tags
+ * of the format this request negotiates are kept in {@code If-None-Match}, without the suffix.
+ */
+public class RepresentationTagFilter extends OncePerRequestFilter {
+
+  private static final Map<MediaType, String> SUFFIXES = new LinkedHashMap<>();
+
+  static {
+    SUFFIXES.put(MediaType.APPLICATION_JSON, "");
+    SUFFIXES.put(MediaType.valueOf("application/x-jackson-smile"), "+smile");
+    SUFFIXES.put(MediaType.APPLICATION_CBOR, "+cbor");
+  }
+
+  private static final Comparator<MediaType> PREFERENCE =
+      Comparator.comparingDouble(MediaType::getQualityValue).reversed()
+          .thenComparing(MediaType::isWildcardType)
+          .thenComparing(MediaType::isWildcardSubtype);
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+    var suffix = suffixOf(request.getHeader(HttpHeaders.ACCEPT));
+
+    if (suffix.isEmpty()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    filterChain.doFilter(new TaggedRequest(request, suffix), new TaggedResponse(response, suffix));
+  }
+
+  /**
+   * Follows the converter order Spring MVC negotiates with: the most preferred accepted type picks
+   * the first of JSON, Smile and CBOR it is compatible with.
+   */
+  static String suffixOf(String accept) {
+    if (accept == null) {
+      return "";
+    }
+
+    List<MediaType> acceptable;
+
+    try {
+      acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+    } catch (InvalidMediaTypeException e) {
+      return "";
+    }
+    acceptable.sort(PREFERENCE);
+    for (MediaType mediaType : acceptable) {
+      if (mediaType.getQualityValue() == 0) {
+        continue;
+      }
+      for (Map.Entry<MediaType, String> suffix : SUFFIXES.entrySet()) {
+        if (mediaType.isCompatibleWith(suffix.getKey())) {
+          return suffix.getValue();
+        }
+      }
+    }
+    return "";
+  }
+
+  private static String withSuffix(String etag, String suffix) {
+    return etag.endsWith("\"")
+        ? etag.substring(0, etag.length() - 1) + suffix + "\""
+        : etag;
+  }
+
+  private static class TaggedRequest extends HttpServletRequestWrapper {
+
+    private final String ifNoneMatch;
+
+    TaggedRequest(HttpServletRequest request, String suffix) {
+      super(request);
+
+      var tags = new ArrayList<String>();
+      var header = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+
+      if (header != null) {
+        for (String candidate : header.split(",")) {
+          var tag = candidate.trim();
+
+          if (tag.equals("*")) {
+            tags.add(tag);
+          } else if (tag.endsWith(suffix + "\"")) {
+            tags.add(tag.substring(0, tag.length() - suffix.length() - 1) + "\"");
+          }
+        }
+      }
+      this.ifNoneMatch = tags.isEmpty() ? null : String.join(", ", tags);
+    }
+
+    @Override
+    public String getHeader(String name) {
+      return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) ? ifNoneMatch : super.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+      if (!HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name)) {
+        return super.getHeaders(name);
+      }
+      return ifNoneMatch == null
+          ? Collections.emptyEnumeration()
+          : Collections.enumeration(List.of(ifNoneMatch));
+    }
+
+  }
+
+  private static class TaggedResponse extends HttpServletResponseWrapper {
+
+    private final String suffix;
+
+    TaggedResponse(HttpServletResponse response, String suffix) {
+      super(response);
+      this.suffix = suffix;
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+      super.setHeader(name, HttpHeaders.ETAG.equalsIgnoreCase(name)
+          ? withSuffix(value, suffix)
+          : value);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+      super.addHeader(name, HttpHeaders.ETAG.equalsIgnoreCase(name)
+          ? withSuffix(value, suffix)
+          : value);
+    }
+
+  }
+
+}
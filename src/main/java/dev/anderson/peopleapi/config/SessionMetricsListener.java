@@ -0,0 +1,37 @@
+package dev.anderson.peopleapi.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Created by Hibernate for every session, which with open-in-view is one per request, and records
+ * how many JDBC statements the session ran. Hibernate instantiates it reflectively, hence the global
+ * registry, to which Spring Boot binds its own.
+ */
+public class SessionMetricsListener extends BaseSessionEventListener {
+
+  private static final DistributionSummary STATEMENTS = DistributionSummary
+      .builder("hibernate.session.statements")
+      .description("JDBC statements executed per Hibernate session")
+      .publishPercentileHistogram()
+      .register(Metrics.globalRegistry);
+
+  private int statements;
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    statements++;
+  }
+
+  @Override
+  public void jdbcExecuteBatchEnd() {
+    statements++;
+  }
+
+  @Override
+  public void end() {
+    STATEMENTS.record(statements);
+  }
+
+}
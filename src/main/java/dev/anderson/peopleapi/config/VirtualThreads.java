@@ -0,0 +1,38 @@
+package dev.anderson.peopleapi.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The project compiles for Java 19, where virtual threads are still a preview API, so the factory is
+ * looked up at runtime: it works on JDK 21+, or on JDK 19/20 started with --enable-preview.
+ */
+public final class VirtualThreads {
+
+  private VirtualThreads() {
+  }
+
+  public static boolean isAvailable() {
+    try {
+      newVirtualThreadPerTaskExecutor().close();
+      return true;
+    } catch (IllegalStateException e) {
+      return false;
+    }
+  }
+
+  public static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService) Executors.class
+          .getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new IllegalStateException("Virtual threads need JDK 19 or newer", e);
+    } catch (InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Virtual threads need JDK 21, or JDK 19/20 with --enable-preview", e.getCause());
+    }
+  }
+
+}
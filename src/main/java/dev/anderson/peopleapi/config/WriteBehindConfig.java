@@ -0,0 +1,47 @@
+package dev.anderson.peopleapi.config;
+
+import dev.anderson.peopleapi.cache.ResponseCache;
+import dev.anderson.peopleapi.search.NameIndex;
+import dev.anderson.peopleapi.writebehind.PeopleWriteBuffer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Opt-in write-behind for people creation: with {@code people.write-behind.enabled=true}, a POST
+ * is answered with 202 once {@link PeopleWriteBuffer} buffered the people, and the insert happens
+ * within {@code people.write-behind.flush-interval}.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "people.write-behind.enabled", havingValue = "true")
+public class WriteBehindConfig {
+
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  public PeopleWriteBuffer peopleWriteBuffer(
+      EntityManager entityManager,
+      PlatformTransactionManager transactionManager,
+      NameIndex nameIndex,
+      ResponseCache responseCache,
+      MeterRegistry meterRegistry,
+      @Value("${people.write-behind.capacity:10000}") int capacity,
+      @Value("${people.write-behind.batch-size:500}") int batchSize,
+      @Value("${people.write-behind.flush-interval:200ms}") Duration flushInterval,
+      @Value("${people.write-behind.offer-timeout:50ms}") Duration offerTimeout
+  ) {
+    var writeBuffer = new PeopleWriteBuffer(entityManager, transactionManager, nameIndex,
+        responseCache, meterRegistry, capacity, batchSize, flushInterval, offerTimeout);
+
+    Gauge.builder("people.writebehind.buffered", writeBuffer, PeopleWriteBuffer::buffered)
+        .register(meterRegistry);
+    return writeBuffer;
+  }
+
+}
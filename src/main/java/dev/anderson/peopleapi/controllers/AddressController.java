@@ -2,18 +2,23 @@ package dev.anderson.peopleapi.controllers;
 
 import dev.anderson.peopleapi.domain.DTO.AddressDTO;
 import dev.anderson.peopleapi.service.implementation.AddressServiceImplementation;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @CrossOrigin
+@Profile("!reactive")
 @RequestMapping("/api/v1/address")
 public class AddressController {
 
@@ -28,11 +33,35 @@ public class AddressController {
     return addressServiceImplementation.listAll();
   }
 
+  @GetMapping("/by-cep")
+  ResponseEntity<?> listByCep(
+      @RequestParam(value = "prefix", required = true) String prefix,
+      @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
+      @RequestParam(value = "after", required = false, defaultValue = "") String after
+  ) {
+    return addressServiceImplementation.listByCep(prefix, after, size);
+  }
+
+  @GetMapping("/by-city")
+  ResponseEntity<?> listByCity(
+      @RequestParam(value = "city", required = true) String city,
+      @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
+      @RequestParam(value = "after", required = false, defaultValue = "") String after
+  ) {
+    return addressServiceImplementation.listByCity(city, after, size);
+  }
+
   @GetMapping
   ResponseEntity<?> findAddress(
       @RequestParam(value = "name", required = true) String name,
-      @RequestParam(value = "birthDate", required = true) String birthDate) {
-    return addressServiceImplementation.findAddress(name, birthDate);
+      @RequestParam(value = "birthDate", required = true) String birthDate,
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+    return addressServiceImplementation.findAddress(name, birthDate, ifNoneMatch);
+  }
+
+  @GetMapping("/{id}")
+  ResponseEntity<?> findAddress(@PathVariable("id") Long id) {
+    return addressServiceImplementation.findAddress(id);
   }
 
   @PostMapping
@@ -44,6 +73,38 @@ public class AddressController {
     return addressServiceImplementation.makeAddress(name, birthDate, addressDTO);
   }
 
+  @PutMapping("/{id}")
+  ResponseEntity<?> updateAddress(
+      @PathVariable("id") Long id,
+      @RequestParam(value = "name", required = true) String name,
+      @RequestParam(value = "birthDate", required = true) String birthDate,
+      @RequestBody(required = true) AddressDTO addressDTO
+  ) {
+    return addressServiceImplementation.updateAddress(name, birthDate, id, addressDTO);
+  }
+
+  @PutMapping
+  ResponseEntity<?> updateAddress(
+      @RequestParam(value = "name", required = true) String name,
+      @RequestParam(value = "birthDate", required = true) String birthDate,
+      @RequestParam(value = "publicPlace", required = true) String publicPlace,
+      @RequestParam(value = "number", required = true) String number,
+      @RequestParam(value = "cep", required = true) String cep,
+      @RequestBody(required = true) AddressDTO addressDTO
+  ) {
+    return addressServiceImplementation.updateAddress(
+        name, birthDate, new AddressDTO(publicPlace, number, null, cep), addressDTO);
+  }
+
+  @DeleteMapping("/{id}")
+  ResponseEntity<?> deleteAddress(
+      @PathVariable("id") Long id,
+      @RequestParam(value = "name", required = true) String name,
+      @RequestParam(value = "birthDate", required = true) String birthDate
+  ) {
+    return addressServiceImplementation.deleteAddress(name, birthDate, id);
+  }
+
   @DeleteMapping
   ResponseEntity<?> deleteAddress(
       @RequestParam(value = "name", required = true) String name,
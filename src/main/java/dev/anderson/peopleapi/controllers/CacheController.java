@@ -0,0 +1,26 @@
+package dev.anderson.peopleapi.controllers;
+
+import dev.anderson.peopleapi.cache.ResponseCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@CrossOrigin
+@RequestMapping("/api/v1/cache")
+public class CacheController {
+
+  private final ResponseCache responseCache;
+
+  public CacheController(ResponseCache responseCache) {
+    this.responseCache = responseCache;
+  }
+
+  @GetMapping("/stats")
+  public ResponseEntity<?> stats() {
+    return ResponseEntity.ok(responseCache.stats());
+  }
+
+}
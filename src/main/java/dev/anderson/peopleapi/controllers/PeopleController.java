@@ -1,7 +1,14 @@
 package dev.anderson.peopleapi.controllers;
 
 import dev.anderson.peopleapi.domain.DTO.PeopleInputDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleKeyDTO;
+import dev.anderson.peopleapi.service.implementation.PeopleBatchServiceImplementation;
+import dev.anderson.peopleapi.service.implementation.PeopleImportServiceImplementation;
 import dev.anderson.peopleapi.service.implementation.PeopleServiceImplementation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,35 +17,62 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @CrossOrigin
+@Profile("!reactive")
 @RequestMapping("/api/v1/people")
 public class PeopleController {
 
   private final PeopleServiceImplementation peopleServiceImplementation;
 
-  public PeopleController(PeopleServiceImplementation peopleServiceImplementation) {
+  private final PeopleImportServiceImplementation peopleImportServiceImplementation;
+
+  private final PeopleBatchServiceImplementation peopleBatchServiceImplementation;
+
+  public PeopleController(
+      PeopleServiceImplementation peopleServiceImplementation,
+      PeopleImportServiceImplementation peopleImportServiceImplementation,
+      PeopleBatchServiceImplementation peopleBatchServiceImplementation
+  ) {
     this.peopleServiceImplementation = peopleServiceImplementation;
+    this.peopleImportServiceImplementation = peopleImportServiceImplementation;
+    this.peopleBatchServiceImplementation = peopleBatchServiceImplementation;
   }
 
   @GetMapping("/all")
   public ResponseEntity<?> listAll(
       @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
-      @RequestParam(value = "size", required = false, defaultValue = "4") Integer size
+      @RequestParam(value = "size", required = false, defaultValue = "4") Integer size,
+      @RequestParam(value = "after", required = false) String after,
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
   ) {
-    return peopleServiceImplementation.listAll(page, size);
+    if (after != null) {
+      return peopleServiceImplementation.listAfter(after, size);
+    }
+    return peopleServiceImplementation.listAll(page, size, ifNoneMatch);
   }
 
   @GetMapping
   public ResponseEntity<?> findPeople(
       @RequestParam(value = "name", required = true) String name,
-      @RequestParam(value = "birthDate", required = true) String birthDate
+      @RequestParam(value = "birthDate", required = true) String birthDate,
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
+  ) {
+    return peopleServiceImplementation.findPeople(name, birthDate, ifNoneMatch);
+  }
+
+  @GetMapping("/search")
+  public ResponseEntity<?> searchPeople(
+      @RequestParam(value = "prefix", required = true) String prefix,
+      @RequestParam(value = "size", required = false, defaultValue = "10") Integer size,
+      @RequestParam(value = "after", required = false, defaultValue = "") String after
   ) {
-    return peopleServiceImplementation.findPeople(name, birthDate);
+    return peopleServiceImplementation.searchPeople(prefix, after, size);
   }
 
   @PostMapping
@@ -49,6 +83,17 @@ public class PeopleController {
     return peopleServiceImplementation.makePeople(name, birthDate);
   }
 
+  @PostMapping("/lookup")
+  public ResponseEntity<?> lookupPeople(
+      @RequestBody(required = true) List<PeopleKeyDTO> peopleKeys) {
+    return peopleServiceImplementation.lookupPeople(peopleKeys);
+  }
+
+  @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+  public ResponseEntity<?> importPeople(InputStream ndjson) throws IOException {
+    return peopleImportServiceImplementation.importPeople(ndjson);
+  }
+
   @PutMapping
   public ResponseEntity<?> replacePeople(
       @RequestBody(required = true) PeopleInputDTO peopleInputDTO) {
@@ -61,6 +106,18 @@ public class PeopleController {
     return peopleServiceImplementation.updatePeople(peopleInputDTO);
   }
 
+  @PutMapping("/batch")
+  public ResponseEntity<?> replacePeople(
+      @RequestBody(required = true) List<PeopleInputDTO> peopleInputDTOList) {
+    return peopleBatchServiceImplementation.replacePeople(peopleInputDTOList);
+  }
+
+  @PatchMapping("/batch")
+  public ResponseEntity<?> updatePeople(
+      @RequestBody(required = true) List<PeopleInputDTO> peopleInputDTOList) {
+    return peopleBatchServiceImplementation.updatePeople(peopleInputDTOList);
+  }
+
   @DeleteMapping
   public ResponseEntity<?> deletePeople(
       @RequestParam(value = "name", required = true) String name,
@@ -69,4 +126,10 @@ public class PeopleController {
     return peopleServiceImplementation.deletePeople(name, birthDate);
   }
 
+  @DeleteMapping("/batch")
+  public ResponseEntity<?> deletePeople(
+      @RequestBody(required = true) List<PeopleKeyDTO> peopleKeys) {
+    return peopleBatchServiceImplementation.deletePeople(peopleKeys);
+  }
+
 }
@@ -0,0 +1,88 @@
+package dev.anderson.peopleapi.controllers;
+
+import dev.anderson.peopleapi.domain.DTO.AddressDTO;
+import dev.anderson.peopleapi.service.implementation.ReactiveAddressServiceImplementation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@CrossOrigin
+@Profile("reactive")
+@RequestMapping("/api/v1/address")
+public class ReactiveAddressController {
+
+  private final ReactiveAddressServiceImplementation reactiveAddressServiceImplementation;
+
+  public ReactiveAddressController(
+      ReactiveAddressServiceImplementation reactiveAddressServiceImplementation) {
+    this.reactiveAddressServiceImplementation = reactiveAddressServiceImplementation;
+  }
+
+  @GetMapping("/all")
+  Mono<ResponseEntity<?>> listAll() {
+    return reactiveAddressServiceImplementation.listAll();
+  }
+
+  @GetMapping
+  Mono<ResponseEntity<?>> findAddress(
+      @RequestParam(value = "name", required = true) String name,
+      @RequestParam(value = "birthDate", required = true) String birthDate,
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+    return reactiveAddressServiceImplementation.findAddress(name, birthDate, ifNoneMatch);
+  }
+
+  @GetMapping("/{id}")
+  Mono<ResponseEntity<?>> findAddress(@PathVariable("id") Long id) {
+    return reactiveAddressServiceImplementation.findAddress(id);
+  }
+
+  @PostMapping
+  Mono<ResponseEntity<?>> makeAddress(
+      @RequestParam(value = "name", required = true) String name,
+      @RequestParam(value = "birthDate", required = true) String birthDate,
+      @RequestBody(required = true) AddressDTO addressDTO
+  ) {
+    return reactiveAddressServiceImplementation.makeAddress(name, birthDate, addressDTO);
+  }
+
+  @PutMapping("/{id}")
+  Mono<ResponseEntity<?>> updateAddress(
+      @PathVariable("id") Long id,
+      @RequestParam(value = "name", required = true) String name,
+      @RequestParam(value = "birthDate", required = true) String birthDate,
+      @RequestBody(required = true) AddressDTO addressDTO
+  ) {
+    return reactiveAddressServiceImplementation.updateAddress(name, birthDate, id, addressDTO);
+  }
+
+  @DeleteMapping("/{id}")
+  Mono<ResponseEntity<?>> deleteAddress(
+      @PathVariable("id") Long id,
+      @RequestParam(value = "name", required = true) String name,
+      @RequestParam(value = "birthDate", required = true) String birthDate
+  ) {
+    return reactiveAddressServiceImplementation.deleteAddress(name, birthDate, id);
+  }
+
+  @DeleteMapping
+  Mono<ResponseEntity<?>> deleteAddress(
+      @RequestParam(value = "name", required = true) String name,
+      @RequestParam(value = "birthDate", required = true) String birthDate,
+      @RequestBody(required = true) AddressDTO addressDTO
+  ) {
+    return reactiveAddressServiceImplementation.deleteAddress(name, birthDate, addressDTO);
+  }
+
+}
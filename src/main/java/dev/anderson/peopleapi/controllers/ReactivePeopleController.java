@@ -0,0 +1,83 @@
+package dev.anderson.peopleapi.controllers;
+
+import dev.anderson.peopleapi.domain.DTO.PeopleInputDTO;
+import dev.anderson.peopleapi.service.implementation.ReactivePeopleServiceImplementation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@CrossOrigin
+@Profile("reactive")
+@RequestMapping("/api/v1/people")
+public class ReactivePeopleController {
+
+  private final ReactivePeopleServiceImplementation reactivePeopleServiceImplementation;
+
+  public ReactivePeopleController(
+      ReactivePeopleServiceImplementation reactivePeopleServiceImplementation) {
+    this.reactivePeopleServiceImplementation = reactivePeopleServiceImplementation;
+  }
+
+  @GetMapping("/all")
+  public Mono<ResponseEntity<?>> listAll(
+      @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
+      @RequestParam(value = "size", required = false, defaultValue = "4") Integer size,
+      @RequestParam(value = "after", required = false) String after,
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
+  ) {
+    if (after != null) {
+      return reactivePeopleServiceImplementation.listAfter(after, size);
+    }
+    return reactivePeopleServiceImplementation.listAll(page, size, ifNoneMatch);
+  }
+
+  @GetMapping
+  public Mono<ResponseEntity<?>> findPeople(
+      @RequestParam(value = "name", required = true) String name,
+      @RequestParam(value = "birthDate", required = true) String birthDate,
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
+  ) {
+    return reactivePeopleServiceImplementation.findPeople(name, birthDate, ifNoneMatch);
+  }
+
+  @PostMapping
+  public Mono<ResponseEntity<?>> makePeople(
+      @RequestParam(value = "name", required = true) String name,
+      @RequestParam(value = "birthDate", required = true) String birthDate
+  ) {
+    return reactivePeopleServiceImplementation.makePeople(name, birthDate);
+  }
+
+  @PutMapping
+  public Mono<ResponseEntity<?>> replacePeople(
+      @RequestBody(required = true) PeopleInputDTO peopleInputDTO) {
+    return reactivePeopleServiceImplementation.replacePeople(peopleInputDTO);
+  }
+
+  @PatchMapping
+  public Mono<ResponseEntity<?>> updatePeople(
+      @RequestBody(required = true) PeopleInputDTO peopleInputDTO) {
+    return reactivePeopleServiceImplementation.updatePeople(peopleInputDTO);
+  }
+
+  @DeleteMapping
+  public Mono<ResponseEntity<?>> deletePeople(
+      @RequestParam(value = "name", required = true) String name,
+      @RequestParam(value = "birthDate", required = true) String birthDate
+  ) {
+    return reactivePeopleServiceImplementation.deletePeople(name, birthDate);
+  }
+
+}
@@ -0,0 +1,24 @@
+package dev.anderson.peopleapi.domain;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+public final class BirthDates {
+
+  private static final DateTimeFormatter INPUT_FORMATTER = DateTimeFormatter.ofPattern("d/MM/yyyy");
+
+  private static final DateTimeFormatter OUTPUT_FORMATTER =
+      DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+  private BirthDates() {
+  }
+
+  public static LocalDate parse(String date) {
+    return LocalDate.parse(date, INPUT_FORMATTER);
+  }
+
+  public static String format(LocalDate date) {
+    return date.format(OUTPUT_FORMATTER);
+  }
+
+}
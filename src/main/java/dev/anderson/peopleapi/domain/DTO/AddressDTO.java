@@ -1,19 +1,31 @@
 package dev.anderson.peopleapi.domain.DTO;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import dev.anderson.peopleapi.domain.entities.AddressEntity;
+import dev.anderson.peopleapi.domain.entities.AddressRow;
 import java.util.ArrayList;
 import java.util.List;
 
 public record AddressDTO(
+    Long id,
     String publicPlace,
     String number,
     String city,
     String cep
 ) {
 
+  @JsonCreator
+  public AddressDTO {
+  }
+
+  public AddressDTO(String publicPlace, String number, String city, String cep) {
+    this(null, publicPlace, number, city, cep);
+  }
+
   public static AddressDTO of(
       AddressEntity addressEntity) {
     return new AddressDTO(
+        addressEntity.getId(),
         addressEntity.getPublicPlace(),
         addressEntity.getNumber(),
         addressEntity.getCity(),
@@ -21,6 +33,16 @@ public record AddressDTO(
     );
   }
 
+  public static AddressDTO of(AddressRow addressRow) {
+    return new AddressDTO(
+        addressRow.getId(),
+        addressRow.getPublicPlace(),
+        addressRow.getNumber(),
+        addressRow.getCity(),
+        addressRow.getCep()
+    );
+  }
+
   public static List<AddressDTO> fromEntityList(List<AddressEntity> addressEntitiesList) {
     List<AddressDTO> addressDTOSList = new ArrayList<>();
 
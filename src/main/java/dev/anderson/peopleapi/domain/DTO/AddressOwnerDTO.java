@@ -0,0 +1,40 @@
+package dev.anderson.peopleapi.domain.DTO;
+
+import dev.anderson.peopleapi.domain.BirthDates;
+import dev.anderson.peopleapi.domain.entities.AddressEntity;
+import java.util.ArrayList;
+import java.util.List;
+
+public record AddressOwnerDTO(
+    Long id,
+    String publicPlace,
+    String number,
+    String city,
+    String cep,
+    PeopleSummaryDTO people
+) {
+
+  public static AddressOwnerDTO of(AddressEntity addressEntity) {
+    var peopleEntity = addressEntity.getPeople();
+
+    return new AddressOwnerDTO(
+        addressEntity.getId(),
+        addressEntity.getPublicPlace(),
+        addressEntity.getNumber(),
+        addressEntity.getCity(),
+        addressEntity.getCep(),
+        new PeopleSummaryDTO(
+            peopleEntity.getName(), BirthDates.format(peopleEntity.getBirthDate()))
+    );
+  }
+
+  public static List<AddressOwnerDTO> fromEntityList(List<AddressEntity> addressEntitiesList) {
+    List<AddressOwnerDTO> addressOwnerDTOList = new ArrayList<>(addressEntitiesList.size());
+
+    for (AddressEntity addressEntity : addressEntitiesList) {
+      addressOwnerDTOList.add(of(addressEntity));
+    }
+    return addressOwnerDTOList;
+  }
+
+}
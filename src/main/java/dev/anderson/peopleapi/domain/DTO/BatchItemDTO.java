@@ -0,0 +1,19 @@
+package dev.anderson.peopleapi.domain.DTO;
+
+import java.util.List;
+
+public record BatchItemDTO(
+    int index,
+    int status,
+    List<String> errors
+) {
+
+  public static BatchItemDTO ok(int index) {
+    return new BatchItemDTO(index, 200, List.of());
+  }
+
+  public static BatchItemDTO of(int index, int status, ErrorDTO errorDTO) {
+    return new BatchItemDTO(index, status, errorDTO.errors());
+  }
+
+}
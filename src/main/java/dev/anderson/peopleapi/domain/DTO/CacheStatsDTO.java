@@ -0,0 +1,25 @@
+package dev.anderson.peopleapi.domain.DTO;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+public record CacheStatsDTO(
+    String name,
+    long size,
+    long hits,
+    long misses,
+    long evictions
+) {
+
+  public static CacheStatsDTO of(String name, Cache<?, ?> cache) {
+    var stats = cache.stats();
+
+    return new CacheStatsDTO(
+        name,
+        cache.estimatedSize(),
+        stats.hitCount(),
+        stats.missCount(),
+        stats.evictionCount()
+    );
+  }
+
+}
@@ -0,0 +1,25 @@
+package dev.anderson.peopleapi.domain.DTO;
+
+import java.util.List;
+
+public record ErrorDTO(
+    List<String> errors
+) {
+
+  public static ErrorDTO of(String error) {
+    return new ErrorDTO(List.of(error));
+  }
+
+  public static ErrorDTO notFound(String name, String birthDate) {
+    return of("People with name: " + name + " and Birth Date: " + birthDate + "-> Not found");
+  }
+
+  public static ErrorDTO invalidSize(int maxSize) {
+    return of("Size must be between 1 and " + maxSize);
+  }
+
+  public static ErrorDTO alreadyExists(String name, String birthDate) {
+    return of("People with name: " + name + " and Birth Date: " + birthDate + "-> Already Exist");
+  }
+
+}
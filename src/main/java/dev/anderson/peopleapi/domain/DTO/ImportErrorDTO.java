@@ -0,0 +1,8 @@
+package dev.anderson.peopleapi.domain.DTO;
+
+public record ImportErrorDTO(
+    long line,
+    String error
+) {
+
+}
@@ -0,0 +1,10 @@
+package dev.anderson.peopleapi.domain.DTO;
+
+import java.util.List;
+
+public record ImportReportDTO(
+    long imported,
+    List<ImportErrorDTO> errors
+) {
+
+}
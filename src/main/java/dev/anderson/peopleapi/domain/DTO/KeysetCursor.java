@@ -0,0 +1,32 @@
+package dev.anderson.peopleapi.domain.DTO;
+
+import dev.anderson.peopleapi.exceptions.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque position of the last row of a keyset page: the value of the sort column plus the row id
+ * used as tie-breaker. Clients only ever see the encoded token.
+ */
+public record KeysetCursor(String key, Long id) {
+
+  public String encode() {
+    var raw = id + ":" + key;
+
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static KeysetCursor decode(String token) {
+    try {
+      var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      var separator = raw.indexOf(':');
+
+      return new KeysetCursor(raw.substring(separator + 1),
+          Long.parseLong(raw.substring(0, separator)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new InvalidCursorException("Cursor: " + token + "-> Invalid");
+    }
+  }
+
+}
@@ -1,8 +1,8 @@
 package dev.anderson.peopleapi.domain.DTO;
 
+import dev.anderson.peopleapi.domain.BirthDates;
 import dev.anderson.peopleapi.domain.entities.PeopleEntity;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import dev.anderson.peopleapi.domain.entities.PeopleRow;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.data.domain.Page;
@@ -15,11 +15,19 @@ public record PeopleDTO(
   public static PeopleDTO of(PeopleEntity peopleEntity) {
     return new PeopleDTO(
         peopleEntity.getName(),
-        formattedDate(peopleEntity.getBirthDate()),
+        BirthDates.format(peopleEntity.getBirthDate()),
         AddressDTO.fromEntityList(peopleEntity.getAddresses())
     );
   }
 
+  public static PeopleDTO of(PeopleRow peopleRow, List<AddressDTO> addressDTO) {
+    return new PeopleDTO(
+        peopleRow.getName(),
+        BirthDates.format(peopleRow.getBirthDate()),
+        addressDTO
+    );
+  }
+
   public static List<PeopleDTO> fromPage(Page<PeopleEntity> peopleEntityList) {
     List<PeopleDTO> peopleDTOList = new ArrayList<>();
 
@@ -29,8 +37,13 @@ public record PeopleDTO(
     return peopleDTOList;
   }
 
-  private static String formattedDate(LocalDate date) {
-    return date.format(DateTimeFormatter.ofPattern("dd/MM/yyyy")).replace("-", "/");
+  public static List<PeopleDTO> fromList(List<PeopleEntity> peopleEntityList) {
+    List<PeopleDTO> peopleDTOList = new ArrayList<>(peopleEntityList.size());
+
+    for (PeopleEntity peopleEntity : peopleEntityList) {
+      peopleDTOList.add(of(peopleEntity));
+    }
+    return peopleDTOList;
   }
 
 }
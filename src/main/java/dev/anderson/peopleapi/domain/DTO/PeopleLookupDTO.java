@@ -0,0 +1,10 @@
+package dev.anderson.peopleapi.domain.DTO;
+
+import java.util.List;
+
+public record PeopleLookupDTO(
+    List<PeopleDTO> found,
+    List<PeopleKeyDTO> missing
+) {
+
+}
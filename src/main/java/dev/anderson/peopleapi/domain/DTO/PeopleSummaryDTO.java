@@ -0,0 +1,26 @@
+package dev.anderson.peopleapi.domain.DTO;
+
+import dev.anderson.peopleapi.domain.BirthDates;
+import dev.anderson.peopleapi.search.IndexedName;
+import java.util.ArrayList;
+import java.util.List;
+
+public record PeopleSummaryDTO(
+    String name,
+    String birthDate
+) {
+
+  public static PeopleSummaryDTO of(IndexedName indexedName) {
+    return new PeopleSummaryDTO(indexedName.name(), BirthDates.format(indexedName.birthDate()));
+  }
+
+  public static List<PeopleSummaryDTO> fromList(List<IndexedName> indexedNames) {
+    List<PeopleSummaryDTO> peopleSummaryDTOList = new ArrayList<>(indexedNames.size());
+
+    for (IndexedName indexedName : indexedNames) {
+      peopleSummaryDTOList.add(of(indexedName));
+    }
+    return peopleSummaryDTOList;
+  }
+
+}
@@ -0,0 +1,55 @@
+package dev.anderson.peopleapi.domain.DTO;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * JSON array body whose elements are pulled from {@code source} while the response is being
+ * written, so no element list is ever materialized. The source is only consumed when serialized.
+ */
+public class StreamedListDTO<T> implements JsonSerializable {
+
+  private final Consumer<Consumer<T>> source;
+
+  public StreamedListDTO(Consumer<Consumer<T>> source) {
+    this.source = source;
+  }
+
+  public void forEach(Consumer<T> sink) {
+    source.accept(sink);
+  }
+
+  @Override
+  public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+    gen.writeStartArray();
+    try {
+      forEach(item -> {
+        try {
+          serializers.defaultSerializeValue(item, gen);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    gen.writeEndArray();
+  }
+
+  @Override
+  public void serializeWithType(JsonGenerator gen, SerializerProvider serializers,
+      TypeSerializer typeSer) throws IOException {
+    WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(this, JsonToken.START_ARRAY));
+
+    serialize(gen, serializers);
+    typeSer.writeTypeSuffix(gen, typeId);
+  }
+
+}
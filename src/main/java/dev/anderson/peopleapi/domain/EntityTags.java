@@ -0,0 +1,49 @@
+package dev.anderson.peopleapi.domain;
+
+import java.util.List;
+
+/**
+ * Entity tags of the people reads. A single people is tagged by its id and version, which every
+ * change to the people or to one of its addresses bumps; a page is tagged by a hash of the ids and
+ * versions it holds together with the total count, so it can be revalidated without loading it.
+ */
+public final class EntityTags {
+
+  private static final long MIX = 0x9E3779B97F4A7C15L;
+
+  private EntityTags() {
+  }
+
+  public static String of(PeopleVersion peopleVersion) {
+    return "\"" + peopleVersion.id() + "." + peopleVersion.version() + "\"";
+  }
+
+  public static String of(List<PeopleVersion> peopleVersions, long totalElements) {
+    long hash = totalElements;
+
+    for (PeopleVersion peopleVersion : peopleVersions) {
+      hash = (hash ^ peopleVersion.id()) * MIX;
+      hash = (hash ^ peopleVersion.version()) * MIX;
+    }
+    return "\"" + peopleVersions.size() + "-" + Long.toHexString(hash) + "\"";
+  }
+
+  /**
+   * Whether an {@code If-None-Match} header matches the tag, using the weak comparison HTTP asks
+   * for on conditional GETs.
+   */
+  public static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      var tag = candidate.trim();
+
+      if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
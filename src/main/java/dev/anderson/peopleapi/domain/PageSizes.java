@@ -0,0 +1,14 @@
+package dev.anderson.peopleapi.domain;
+
+public final class PageSizes {
+
+  public static final int MAX_SIZE = 1000;
+
+  private PageSizes() {
+  }
+
+  public static boolean isValid(Integer size) {
+    return size != null && size >= 1 && size <= MAX_SIZE;
+  }
+
+}
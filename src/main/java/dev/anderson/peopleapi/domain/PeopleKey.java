@@ -0,0 +1,10 @@
+package dev.anderson.peopleapi.domain;
+
+import java.time.LocalDate;
+
+public record PeopleKey(
+    String name,
+    LocalDate birthDate
+) {
+
+}
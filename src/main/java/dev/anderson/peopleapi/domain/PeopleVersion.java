@@ -0,0 +1,19 @@
+package dev.anderson.peopleapi.domain;
+
+import dev.anderson.peopleapi.domain.entities.PeopleEntity;
+import dev.anderson.peopleapi.domain.entities.PeopleRow;
+
+public record PeopleVersion(
+    Long id,
+    Long version
+) {
+
+  public static PeopleVersion of(PeopleEntity peopleEntity) {
+    return new PeopleVersion(peopleEntity.getId(), peopleEntity.getVersion());
+  }
+
+  public static PeopleVersion of(PeopleRow peopleRow) {
+    return new PeopleVersion(peopleRow.getId(), peopleRow.getVersion());
+  }
+
+}
@@ -2,16 +2,25 @@ package dev.anderson.peopleapi.domain.entities;
 
 import dev.anderson.peopleapi.domain.DTO.AddressDTO;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_address_entity_cep_id", columnList = "cep, id"),
+    @Index(name = "idx_address_entity_city_id", columnList = "city, id"),
+    @Index(name = "idx_address_entity_people_id", columnList = "people_id")})
 public class AddressEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "address_entity_seq")
+  @SequenceGenerator(name = "address_entity_seq", sequenceName = "address_entity_seq", allocationSize = 50)
   private Long id;
 
   private String publicPlace;
@@ -22,7 +31,7 @@ public class AddressEntity {
 
   private String cep;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
   private PeopleEntity people;
 
   public AddressEntity() {
@@ -35,6 +44,10 @@ public class AddressEntity {
     this.cep = cep;
   }
 
+  public Long getId() {
+    return id;
+  }
+
   public String getPublicPlace() {
     return publicPlace;
   }
@@ -51,6 +64,21 @@ public class AddressEntity {
     return cep;
   }
 
+  public PeopleEntity getPeople() {
+    return people;
+  }
+
+
+  void assignTo(PeopleEntity people) {
+    this.people = people;
+  }
+
+  public static AddressEntity fromDTO(AddressDTO addressDTO, PeopleEntity people) {
+    var addressEntity = fromDTO(addressDTO);
+
+    addressEntity.assignTo(people);
+    return addressEntity;
+  }
 
   public static AddressEntity fromDTO(AddressDTO addressDTO) {
     return new AddressEntity(
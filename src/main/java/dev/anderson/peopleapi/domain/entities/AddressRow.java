@@ -0,0 +1,62 @@
+package dev.anderson.peopleapi.domain.entities;
+
+import dev.anderson.peopleapi.domain.DTO.AddressDTO;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * R2DBC mapping of the {@code address_entity} table used by the reactive profile.
+ */
+@Table("address_entity")
+public class AddressRow {
+
+  @Id
+  private Long id;
+
+  private Long peopleId;
+
+  private String publicPlace;
+
+  private String number;
+
+  private String city;
+
+  private String cep;
+
+  public AddressRow() {
+  }
+
+  public AddressRow(Long id, Long peopleId, AddressDTO addressDTO) {
+    this.id = id;
+    this.peopleId = peopleId;
+    this.publicPlace = addressDTO.publicPlace();
+    this.number = addressDTO.number();
+    this.city = addressDTO.city();
+    this.cep = addressDTO.cep();
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getPeopleId() {
+    return peopleId;
+  }
+
+  public String getPublicPlace() {
+    return publicPlace;
+  }
+
+  public String getNumber() {
+    return number;
+  }
+
+  public String getCity() {
+    return city;
+  }
+
+  public String getCep() {
+    return cep;
+  }
+
+}
@@ -1,5 +1,6 @@
 package dev.anderson.peopleapi.domain.entities;
 
+import dev.anderson.peopleapi.domain.BirthDates;
 import dev.anderson.peopleapi.domain.DTO.PeopleInputDTO;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
@@ -7,24 +8,38 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_people_entity_name_birth_date",
+        columnNames = {"name", "birthDate"}),
+    indexes = @Index(name = "idx_people_entity_name_id", columnList = "name, id"))
 public class PeopleEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "people_entity_seq")
+  @SequenceGenerator(name = "people_entity_seq", sequenceName = "people_entity_seq", allocationSize = 50)
   private Long id;
 
   private String name;
 
   private LocalDate birthDate;
 
-  @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+  @Version
+  private Long version;
+
+  @OneToMany(mappedBy = "people", cascade = CascadeType.ALL, fetch = FetchType.LAZY,
+      orphanRemoval = true)
   private List<AddressEntity> addresses;
 
   public PeopleEntity() {
@@ -34,6 +49,7 @@ public class PeopleEntity {
     this.name = name;
     this.birthDate = birthDate;
     this.addresses = addresses;
+    addresses.forEach(addressEntity -> addressEntity.assignTo(this));
   }
 
   public PeopleEntity(String name, LocalDate birthDate) {
@@ -46,6 +62,10 @@ public class PeopleEntity {
     return new PeopleEntity(name, birthDate);
   }
 
+  public Long getId() {
+    return id;
+  }
+
   public String getName() {
     return name;
   }
@@ -54,27 +74,26 @@ public class PeopleEntity {
     return birthDate;
   }
 
+  public Long getVersion() {
+    return version;
+  }
+
   public List<AddressEntity> getAddresses() {
     return addresses;
   }
 
   public void updateNameAndDate(PeopleInputDTO peopleInputDTO) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d/MM/yyyy");
-
     if (!peopleInputDTO.newName().isEmpty()) {
       this.name = peopleInputDTO.newName();
     }
     if (!peopleInputDTO.newBirthDate().isEmpty()) {
-      this.birthDate = LocalDate.parse(peopleInputDTO.newBirthDate(), formatter);
+      this.birthDate = BirthDates.parse(peopleInputDTO.newBirthDate());
     }
   }
 
   public void updateAddress(AddressEntity addressEntity) {
+    addressEntity.assignTo(this);
     this.addresses.add(addressEntity);
   }
 
-  public void deleteAddress(AddressEntity addressEntity) {
-    this.addresses.remove(addressEntity);
-  }
-
 }
@@ -0,0 +1,50 @@
+package dev.anderson.peopleapi.domain.entities;
+
+import java.time.LocalDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * R2DBC mapping of the {@code people_entity} table used by the reactive profile. Addresses are
+ * loaded separately by {@code people_id}, since R2DBC has no associations.
+ */
+@Table("people_entity")
+public class PeopleRow {
+
+  @Id
+  private Long id;
+
+  private String name;
+
+  private LocalDate birthDate;
+
+  @Version
+  private Long version;
+
+  public PeopleRow() {
+  }
+
+  public PeopleRow(Long id, String name, LocalDate birthDate) {
+    this.id = id;
+    this.name = name;
+    this.birthDate = birthDate;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public LocalDate getBirthDate() {
+    return birthDate;
+  }
+
+  public Long getVersion() {
+    return version;
+  }
+
+}
@@ -0,0 +1,9 @@
+package dev.anderson.peopleapi.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+
+  public InvalidCursorException(String msg) {
+    super(msg);
+  }
+
+}
@@ -1,9 +1,12 @@
 package dev.anderson.peopleapi.exceptions;
 
+/**
+ * Only thrown when a concurrent write beats the service's own checks, so it carries no stack trace.
+ */
 public class UserExistsException extends RuntimeException {
 
   public UserExistsException(String msg) {
-    super(msg);
+    super(msg, null, false, false);
   }
 
 }
@@ -1,8 +0,0 @@
-package dev.anderson.peopleapi.exceptions;
-
-public class UserNotFoundException extends RuntimeException {
-
-  public UserNotFoundException(String msg) {
-    super(msg);
-  }
-}
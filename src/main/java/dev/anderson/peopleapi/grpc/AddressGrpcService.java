@@ -0,0 +1,100 @@
+package dev.anderson.peopleapi.grpc;
+
+import com.google.protobuf.Empty;
+import dev.anderson.peopleapi.domain.DTO.AddressDTO;
+import dev.anderson.peopleapi.service.implementation.AddressServiceImplementation;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+@Service
+@Profile("!reactive")
+@ConditionalOnProperty(name = "people.grpc.enabled", havingValue = "true")
+public class AddressGrpcService extends AddressRpcGrpc.AddressRpcImplBase {
+
+  private static final int PAGE_SIZE = 100;
+
+  private final AddressServiceImplementation addressServiceImplementation;
+
+  public AddressGrpcService(AddressServiceImplementation addressServiceImplementation) {
+    this.addressServiceImplementation = addressServiceImplementation;
+  }
+
+  /**
+   * Walks the addresses in id order one page at a time as the client reads.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public void listAddresses(Empty request, StreamObserver<Address> responseObserver) {
+    var afterId = new AtomicLong();
+
+    PagedStream.send(responseObserver, () -> {
+      var addresses = (List<AddressDTO>) GrpcMessages.body(
+          addressServiceImplementation.listAfterId(afterId.get(), PAGE_SIZE));
+
+      if (!addresses.isEmpty()) {
+        afterId.set(addresses.get(addresses.size() - 1).id());
+      }
+      return addresses.stream().map(GrpcMessages::toAddress).toList();
+    });
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void findAddresses(PeopleKey request, StreamObserver<Address> responseObserver) {
+    var addresses = (List<AddressDTO>) GrpcMessages.body(
+        addressServiceImplementation.findAddress(request.getName(), request.getBirthDate()));
+
+    for (AddressDTO addressDTO : addresses) {
+      responseObserver.onNext(GrpcMessages.toAddress(addressDTO));
+    }
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void makeAddress(AddressRequest request, StreamObserver<Address> responseObserver) {
+    var addressDTO = (AddressDTO) GrpcMessages.body(make(request));
+
+    responseObserver.onNext(GrpcMessages.toAddress(addressDTO));
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public StreamObserver<AddressRequest> makeAddressStream(
+      StreamObserver<BulkReply> responseObserver) {
+    return new BulkObserver<>(responseObserver, this::make);
+  }
+
+  @Override
+  public void updateAddress(AddressRequest request, StreamObserver<Empty> responseObserver) {
+    var response = addressServiceImplementation.updateAddress(
+        request.getPeople().getName(),
+        request.getPeople().getBirthDate(),
+        request.getAddress().getId(),
+        GrpcMessages.toAddressDTO(request.getAddress()));
+
+    GrpcMessages.reply(response, responseObserver);
+  }
+
+  @Override
+  public void deleteAddress(AddressRequest request, StreamObserver<Empty> responseObserver) {
+    var response = addressServiceImplementation.deleteAddress(
+        request.getPeople().getName(),
+        request.getPeople().getBirthDate(),
+        request.getAddress().getId());
+
+    GrpcMessages.reply(response, responseObserver);
+  }
+
+  private ResponseEntity<?> make(AddressRequest request) {
+    return addressServiceImplementation.makeAddress(
+        request.getPeople().getName(),
+        request.getPeople().getBirthDate(),
+        GrpcMessages.toAddressDTO(request.getAddress()));
+  }
+
+}
@@ -0,0 +1,62 @@
+package dev.anderson.peopleapi.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Applies each message of a client stream as soon as it arrives and answers with the number of
+ * created items and the errors of the others once the client half-closes.
+ */
+class BulkObserver<T> implements StreamObserver<T> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BulkObserver.class);
+
+  private final StreamObserver<BulkReply> responseObserver;
+
+  private final Function<T, ResponseEntity<?>> create;
+
+  private final BulkReply.Builder reply = BulkReply.newBuilder();
+
+  private int index;
+
+  BulkObserver(StreamObserver<BulkReply> responseObserver,
+      Function<T, ResponseEntity<?>> create) {
+    this.responseObserver = responseObserver;
+    this.create = create;
+  }
+
+  @Override
+  public void onNext(T request) {
+    try {
+      GrpcMessages.body(create.apply(request));
+      reply.setCreated(reply.getCreated() + 1);
+    } catch (RuntimeException e) {
+      reply.addErrors(BulkError.newBuilder()
+          .setIndex(index)
+          .addAllErrors(GrpcMessages.errorsOf(GrpcMessages.statusOf(e))));
+    }
+    index++;
+  }
+
+  /**
+   * The call is gone, so there is nobody to answer: the items created so far stay committed and
+   * are only reported in the log.
+   */
+  @Override
+  public void onError(Throwable t) {
+    LOGGER.warn("Client stream ended with {} after {} messages, {} created and {} rejected",
+        Status.fromThrowable(t).getCode(), index, reply.getCreated(), reply.getErrorsCount());
+  }
+
+  @Override
+  public void onCompleted() {
+    responseObserver.onNext(reply.build());
+    responseObserver.onCompleted();
+  }
+
+}
+
@@ -0,0 +1,41 @@
+package dev.anderson.peopleapi.grpc;
+
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+/**
+ * gRPC counterpart of the REST exception handler: closes the call with the status matching the
+ * exception a service method threw, instead of the UNKNOWN status gRPC would send.
+ */
+public class GrpcExceptionInterceptor implements ServerInterceptor {
+
+  @Override
+  public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+      ServerCallHandler<Q, R> next) {
+    return new SimpleForwardingServerCallListener<>(next.startCall(call, headers)) {
+
+      @Override
+      public void onMessage(Q message) {
+        try {
+          super.onMessage(message);
+        } catch (RuntimeException e) {
+          call.close(GrpcMessages.statusOf(e), new Metadata());
+        }
+      }
+
+      @Override
+      public void onHalfClose() {
+        try {
+          super.onHalfClose();
+        } catch (RuntimeException e) {
+          call.close(GrpcMessages.statusOf(e), new Metadata());
+        }
+      }
+
+    };
+  }
+
+}
@@ -0,0 +1,126 @@
+package dev.anderson.peopleapi.grpc;
+
+import com.google.protobuf.Empty;
+import dev.anderson.peopleapi.cache.CachedJson;
+import dev.anderson.peopleapi.domain.DTO.AddressDTO;
+import dev.anderson.peopleapi.domain.DTO.ErrorDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleInputDTO;
+import dev.anderson.peopleapi.exceptions.InvalidCursorException;
+import dev.anderson.peopleapi.exceptions.UserExistsException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * Conversions between the protobuf messages and the DTOs, and from service responses and
+ * exceptions to gRPC statuses, following the status codes the REST API answers with.
+ */
+final class GrpcMessages {
+
+  private GrpcMessages() {
+  }
+
+  static People toPeople(PeopleDTO peopleDTO) {
+    return People.newBuilder()
+        .setName(peopleDTO.name())
+        .setBirthDate(peopleDTO.birthDate())
+        .addAllAddresses(peopleDTO.addressDTO().stream().map(GrpcMessages::toAddress).toList())
+        .build();
+  }
+
+  static Address toAddress(AddressDTO addressDTO) {
+    var address = Address.newBuilder()
+        .setPublicPlace(nullToEmpty(addressDTO.publicPlace()))
+        .setNumber(nullToEmpty(addressDTO.number()))
+        .setCity(nullToEmpty(addressDTO.city()))
+        .setCep(nullToEmpty(addressDTO.cep()));
+
+    if (addressDTO.id() != null) {
+      address.setId(addressDTO.id());
+    }
+    return address.build();
+  }
+
+  static AddressDTO toAddressDTO(Address address) {
+    return new AddressDTO(
+        emptyToNull(address.getPublicPlace()),
+        emptyToNull(address.getNumber()),
+        emptyToNull(address.getCity()),
+        emptyToNull(address.getCep()));
+  }
+
+  static PeopleInputDTO toPeopleInputDTO(PeopleUpdate peopleUpdate) {
+    return new PeopleInputDTO(
+        peopleUpdate.getName(),
+        peopleUpdate.getBirthDate(),
+        peopleUpdate.getNewName(),
+        peopleUpdate.getNewBirthDate());
+  }
+
+  /**
+   * Returns the body of a successful response, unwrapped from the response cache if needed, or
+   * throws the status matching the response code.
+   */
+  static Object body(ResponseEntity<?> response) {
+    if (!response.getStatusCode().is2xxSuccessful()) {
+      throw statusOf(response).asRuntimeException();
+    }
+    return response.getBody() instanceof CachedJson cachedJson
+        ? cachedJson.body()
+        : response.getBody();
+  }
+
+  static void reply(ResponseEntity<?> response, StreamObserver<Empty> responseObserver) {
+    body(response);
+    responseObserver.onNext(Empty.getDefaultInstance());
+    responseObserver.onCompleted();
+  }
+
+  static Status statusOf(ResponseEntity<?> response) {
+    var status = switch (response.getStatusCode().value()) {
+      case 400 -> Status.INVALID_ARGUMENT;
+      case 404 -> Status.NOT_FOUND;
+      case 409 -> Status.ABORTED;
+      case 503 -> Status.UNAVAILABLE;
+      default -> Status.UNKNOWN;
+    };
+
+    return response.getBody() instanceof ErrorDTO errorDTO
+        ? status.withDescription(String.join("; ", errorDTO.errors()))
+        : status;
+  }
+
+  static Status statusOf(RuntimeException e) {
+    if (e instanceof StatusRuntimeException statusRuntimeException) {
+      return statusRuntimeException.getStatus();
+    }
+    if (e instanceof DateTimeParseException
+        || e instanceof UserExistsException
+        || e instanceof InvalidCursorException) {
+      return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+    }
+    if (e instanceof ObjectOptimisticLockingFailureException) {
+      return Status.ABORTED.withDescription("People was modified concurrently, retry the request");
+    }
+    return Status.UNKNOWN.withCause(e);
+  }
+
+  static List<String> errorsOf(Status status) {
+    return List.of(
+        status.getDescription() != null ? status.getDescription() : status.getCode().name());
+  }
+
+  private static String nullToEmpty(String value) {
+    return value == null ? "" : value;
+  }
+
+  private static String emptyToNull(String value) {
+    return value.isEmpty() ? null : value;
+  }
+
+}
@@ -0,0 +1,67 @@
+package dev.anderson.peopleapi.grpc;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Sends the pages returned by {@code nextPage} from the call's on-ready handler, fetching the next
+ * page only once the previous one was handed to a ready transport, so a slow client leaves at most
+ * one page buffered on the server. An empty page ends the stream, and a cancelled call stops
+ * fetching.
+ */
+final class PagedStream<T> implements Runnable {
+
+  private final ServerCallStreamObserver<T> responseObserver;
+
+  private final Supplier<List<T>> nextPage;
+
+  private Iterator<T> page = Collections.emptyIterator();
+
+  private volatile boolean cancelled;
+
+  private boolean done;
+
+  private PagedStream(ServerCallStreamObserver<T> responseObserver, Supplier<List<T>> nextPage) {
+    this.responseObserver = responseObserver;
+    this.nextPage = nextPage;
+  }
+
+  /**
+   * Must be called from the rpc method itself: gRPC runs the on-ready handler once the method
+   * returns, and again every time the transport drains.
+   */
+  static <T> void send(StreamObserver<T> responseObserver, Supplier<List<T>> nextPage) {
+    var serverObserver = (ServerCallStreamObserver<T>) responseObserver;
+    var stream = new PagedStream<>(serverObserver, nextPage);
+
+    serverObserver.setOnCancelHandler(() -> stream.cancelled = true);
+    serverObserver.setOnReadyHandler(stream);
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (!done && !cancelled && responseObserver.isReady()) {
+        if (!page.hasNext()) {
+          var next = nextPage.get();
+
+          if (next.isEmpty()) {
+            done = true;
+            responseObserver.onCompleted();
+            return;
+          }
+          page = next.iterator();
+        }
+        responseObserver.onNext(page.next());
+      }
+    } catch (RuntimeException e) {
+      done = true;
+      responseObserver.onError(GrpcMessages.statusOf(e).asRuntimeException());
+    }
+  }
+
+}
@@ -0,0 +1,104 @@
+package dev.anderson.peopleapi.grpc;
+
+import com.google.protobuf.Empty;
+import dev.anderson.peopleapi.domain.DTO.PeopleDTO;
+import dev.anderson.peopleapi.service.implementation.PeopleServiceImplementation;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+@Service
+@Profile("!reactive")
+@ConditionalOnProperty(name = "people.grpc.enabled", havingValue = "true")
+public class PeopleGrpcService extends PeopleRpcGrpc.PeopleRpcImplBase {
+
+  private static final int DEFAULT_BATCH_SIZE = 100;
+
+  private static final int MAX_BATCH_SIZE = 1000;
+
+  private final PeopleServiceImplementation peopleServiceImplementation;
+
+  public PeopleGrpcService(PeopleServiceImplementation peopleServiceImplementation) {
+    this.peopleServiceImplementation = peopleServiceImplementation;
+  }
+
+  /**
+   * Walks the keyset pages of {@code listAfter} as the client reads, so the stream never holds
+   * more than one batch of people and their addresses in memory on the server.
+   */
+  @Override
+  public void listPeople(ListPeopleRequest request, StreamObserver<People> responseObserver) {
+    var batchSize = request.getBatchSize() > 0
+        ? Math.min(request.getBatchSize(), MAX_BATCH_SIZE)
+        : DEFAULT_BATCH_SIZE;
+    var after = new AtomicReference<>("");
+
+    PagedStream.send(responseObserver, () -> {
+      if (after.get() == null) {
+        return List.of();
+      }
+
+      var response = peopleServiceImplementation.listAfter(after.get(), batchSize);
+
+      after.set(response.getHeaders().getFirst("x-next-cursor"));
+      return peopleList(response).stream().map(GrpcMessages::toPeople).toList();
+    });
+  }
+
+  @Override
+  public void findPeople(PeopleKey request, StreamObserver<People> responseObserver) {
+    var response = peopleServiceImplementation.findPeople(
+        request.getName(), request.getBirthDate());
+
+    responseObserver.onNext(GrpcMessages.toPeople((PeopleDTO) GrpcMessages.body(response)));
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void makePeople(PeopleKey request, StreamObserver<Empty> responseObserver) {
+    var response = peopleServiceImplementation.makePeople(
+        request.getName(), request.getBirthDate());
+
+    GrpcMessages.reply(response, responseObserver);
+  }
+
+  @Override
+  public StreamObserver<PeopleKey> makePeopleStream(StreamObserver<BulkReply> responseObserver) {
+    return new BulkObserver<>(responseObserver, request ->
+        peopleServiceImplementation.makePeople(request.getName(), request.getBirthDate()));
+  }
+
+  @Override
+  public void replacePeople(PeopleUpdate request, StreamObserver<Empty> responseObserver) {
+    var response = peopleServiceImplementation.replacePeople(
+        GrpcMessages.toPeopleInputDTO(request));
+
+    GrpcMessages.reply(response, responseObserver);
+  }
+
+  @Override
+  public void updatePeople(PeopleUpdate request, StreamObserver<Empty> responseObserver) {
+    var response = peopleServiceImplementation.updatePeople(
+        GrpcMessages.toPeopleInputDTO(request));
+
+    GrpcMessages.reply(response, responseObserver);
+  }
+
+  @Override
+  public void deletePeople(PeopleKey request, StreamObserver<Empty> responseObserver) {
+    var response = peopleServiceImplementation.deletePeople(
+        request.getName(), request.getBirthDate());
+
+    GrpcMessages.reply(response, responseObserver);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<PeopleDTO> peopleList(ResponseEntity<?> response) {
+    return (List<PeopleDTO>) GrpcMessages.body(response);
+  }
+
+}
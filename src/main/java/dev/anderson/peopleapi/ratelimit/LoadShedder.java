@@ -0,0 +1,117 @@
+package dev.anderson.peopleapi.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Every {@code checkInterval}, takes the mean time requests waited for a pooled connection during
+ * the interval from the {@code hikaricp.connections.acquire} timers. While it is above
+ * {@code maxAcquireTime} the share of API requests shed grows by {@code step}, up to
+ * {@code maxRatio}; once it is back below, the share is halved on every check.
+ */
+public class LoadShedder {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LoadShedder.class);
+
+  private final MeterRegistry meterRegistry;
+
+  private final Duration maxAcquireTime;
+
+  private final Duration checkInterval;
+
+  private final double step;
+
+  private final double maxRatio;
+
+  private ScheduledExecutorService scheduler;
+
+  private long lastCount;
+
+  private double lastTotalNanos;
+
+  private volatile double acquireNanos;
+
+  private volatile double ratio;
+
+  public LoadShedder(
+      MeterRegistry meterRegistry,
+      Duration maxAcquireTime,
+      Duration checkInterval,
+      double step,
+      double maxRatio
+  ) {
+    this.meterRegistry = meterRegistry;
+    this.maxAcquireTime = maxAcquireTime;
+    this.checkInterval = checkInterval;
+    this.step = step;
+    this.maxRatio = maxRatio;
+  }
+
+  public boolean shouldShed() {
+    var current = ratio;
+
+    return current > 0 && ThreadLocalRandom.current().nextDouble() < current;
+  }
+
+  public double ratio() {
+    return ratio;
+  }
+
+  public double acquireTime(TimeUnit unit) {
+    return acquireNanos / TimeUnit.NANOSECONDS.convert(1, unit);
+  }
+
+  public synchronized void check() {
+    long count = 0;
+    double totalNanos = 0;
+
+    for (Timer timer : meterRegistry.find("hikaricp.connections.acquire").timers()) {
+      count += timer.count();
+      totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+    }
+
+    var acquisitions = count - lastCount;
+
+    acquireNanos = acquisitions > 0 ? (totalNanos - lastTotalNanos) / acquisitions : 0;
+    lastCount = count;
+    lastTotalNanos = totalNanos;
+
+    if (acquireNanos > maxAcquireTime.toNanos()) {
+      if (ratio == 0) {
+        LOGGER.warn("Connection acquire time of {}ms exceeds {}, shedding load",
+            acquireTime(TimeUnit.MILLISECONDS), maxAcquireTime);
+      }
+      ratio = Math.min(maxRatio, ratio + step);
+    } else if (ratio > 0) {
+      ratio = ratio / 2 < step / 4 ? 0 : ratio / 2;
+      if (ratio == 0) {
+        LOGGER.info("Connection acquire time back under {}, load shedding stopped",
+            maxAcquireTime);
+      }
+    }
+  }
+
+  public void start() {
+    scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      var thread = new Thread(runnable, "load-shedder");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(
+        this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  public void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+}
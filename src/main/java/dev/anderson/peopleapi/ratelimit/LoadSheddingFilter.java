@@ -0,0 +1,43 @@
+package dev.anderson.peopleapi.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Answers 503 with {@code Retry-After} to the share of requests {@link LoadShedder} asks for, so
+ * they fail fast instead of queueing for a connection.
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+  private final LoadShedder loadShedder;
+
+  private final MeterRegistry meterRegistry;
+
+  private final ObjectMapper objectMapper;
+
+  public LoadSheddingFilter(LoadShedder loadShedder, MeterRegistry meterRegistry,
+      ObjectMapper objectMapper) {
+    this.loadShedder = loadShedder;
+    this.meterRegistry = meterRegistry;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    if (!loadShedder.shouldShed()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    meterRegistry.counter("people.loadshedding.rejected").increment();
+    Rejections.write(response, objectMapper, 503, 1, "Server overloaded, retry in 1s");
+  }
+
+}
@@ -0,0 +1,59 @@
+package dev.anderson.peopleapi.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Answers 429 with {@code Retry-After} when the client's bucket for the route is empty, before the
+ * request reaches a controller and so before any database work.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private final RateLimiter rateLimiter;
+
+  private final String apiKeyHeader;
+
+  private final MeterRegistry meterRegistry;
+
+  private final ObjectMapper objectMapper;
+
+  public RateLimitFilter(RateLimiter rateLimiter, String apiKeyHeader,
+      MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+    this.rateLimiter = rateLimiter;
+    this.apiKeyHeader = apiKeyHeader;
+    this.meterRegistry = meterRegistry;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    var decision = rateLimiter.tryAcquire(
+        clientOf(request), request.getMethod(), request.getRequestURI());
+
+    if (decision.allowed()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    var retryAfter = TimeUnit.NANOSECONDS.toSeconds(decision.retryAfterNanos() - 1) + 1;
+
+    meterRegistry.counter("people.ratelimit.rejected", "route", decision.route()).increment();
+    Rejections.write(response, objectMapper, 429, retryAfter,
+        "Rate limit exceeded, retry in " + retryAfter + "s");
+  }
+
+  private String clientOf(HttpServletRequest request) {
+    var apiKey = request.getHeader(apiKeyHeader);
+
+    return apiKey != null && !apiKey.isEmpty() ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+  }
+
+}
@@ -0,0 +1,34 @@
+package dev.anderson.peopleapi.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * {@code people.rate-limit.*}: every client gets a bucket of {@code capacity} tokens refilled at
+ * {@code refill-per-second} for each quota in {@code routes} its requests match, and one more for
+ * the API routes no quota matches. A client is the value of {@code api-key-header}, or the remote
+ * address when the header is missing.
+ */
+@ConfigurationProperties("people.rate-limit")
+public record RateLimitProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("100") long capacity,
+    @DefaultValue("50") double refillPerSecond,
+    @DefaultValue("X-API-Key") String apiKeyHeader,
+    @DefaultValue("100000") long maxBuckets,
+    @DefaultValue("10m") Duration idleTimeout,
+    @DefaultValue Map<String, Quota> routes
+) {
+
+  public record Quota(
+      String method,
+      String path,
+      long capacity,
+      double refillPerSecond
+  ) {
+
+  }
+
+}
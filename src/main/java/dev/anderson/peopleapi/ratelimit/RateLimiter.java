@@ -0,0 +1,88 @@
+package dev.anderson.peopleapi.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Holds one {@link TokenBucket} per client and route. Buckets are created on the first request
+ * and dropped after {@code idle-timeout} without requests, or when {@code max-buckets} is reached.
+ */
+public class RateLimiter {
+
+  public static final String DEFAULT_ROUTE = "default";
+
+  private final List<Route> routes = new ArrayList<>();
+
+  private final Route defaultRoute;
+
+  private final Cache<String, TokenBucket> buckets;
+
+  private final LongSupplier clock;
+
+  public RateLimiter(RateLimitProperties properties, LongSupplier clock) {
+    var parser = PathPatternParser.defaultInstance;
+
+    for (Map.Entry<String, RateLimitProperties.Quota> entry : properties.routes().entrySet()) {
+      var quota = entry.getValue();
+
+      routes.add(new Route(entry.getKey(), quota.method(), parser.parse(quota.path()),
+          quota.capacity(), quota.refillPerSecond()));
+    }
+    this.defaultRoute = new Route(DEFAULT_ROUTE, null, null,
+        properties.capacity(), properties.refillPerSecond());
+    this.buckets = Caffeine.newBuilder()
+        .maximumSize(properties.maxBuckets())
+        .expireAfterAccess(properties.idleTimeout())
+        .build();
+    this.clock = clock;
+  }
+
+  public Decision tryAcquire(String client, String method, String path) {
+    var route = routeOf(method, PathContainer.parsePath(path));
+    var now = clock.getAsLong();
+    var bucket = buckets.get(client + ' ' + route.name(),
+        key -> new TokenBucket(route.capacity(), route.refillPerSecond(), now));
+
+    return new Decision(route.name(), bucket.tryAcquire(now));
+  }
+
+  public long bucketCount() {
+    return buckets.estimatedSize();
+  }
+
+  private Route routeOf(String method, PathContainer path) {
+    for (Route route : routes) {
+      if ((route.method() == null || route.method().equalsIgnoreCase(method))
+          && route.pattern().matches(path)) {
+        return route;
+      }
+    }
+    return defaultRoute;
+  }
+
+  public record Decision(String route, long retryAfterNanos) {
+
+    public boolean allowed() {
+      return retryAfterNanos == 0;
+    }
+
+  }
+
+  private record Route(
+      String name,
+      String method,
+      PathPattern pattern,
+      long capacity,
+      double refillPerSecond
+  ) {
+
+  }
+
+}
@@ -0,0 +1,23 @@
+package dev.anderson.peopleapi.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.anderson.peopleapi.domain.DTO.ErrorDTO;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+final class Rejections {
+
+  private Rejections() {
+  }
+
+  static void write(HttpServletResponse response, ObjectMapper objectMapper, int status,
+      long retryAfterSeconds, String error) throws IOException {
+    response.setStatus(status);
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), ErrorDTO.of(error));
+  }
+
+}
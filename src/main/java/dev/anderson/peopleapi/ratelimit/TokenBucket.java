@@ -0,0 +1,53 @@
+package dev.anderson.peopleapi.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its generic cell rate algorithm form: the whole state is the time at
+ * which the bucket will be full again, moved forward by one emission interval per token taken with
+ * a compare-and-set, so requests of the same client never block each other.
+ */
+public final class TokenBucket {
+
+  private final long capacity;
+
+  private final long emissionIntervalNanos;
+
+  private final long burstNanos;
+
+  private final AtomicLong fullAt;
+
+  public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+    this.capacity = capacity;
+    this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+    this.burstNanos = capacity * emissionIntervalNanos;
+    this.fullAt = new AtomicLong(nowNanos);
+  }
+
+  public long capacity() {
+    return capacity;
+  }
+
+  /**
+   * Takes one token. Returns 0 when it was available, or else the nanoseconds until it will be.
+   */
+  public long tryAcquire(long nowNanos) {
+    while (true) {
+      var current = fullAt.get();
+      var next = Math.max(current - nowNanos, 0) + nowNanos + emissionIntervalNanos;
+      var waitNanos = next - nowNanos - burstNanos;
+
+      if (waitNanos > 0) {
+        return waitNanos;
+      }
+      if (fullAt.compareAndSet(current, next)) {
+        return 0;
+      }
+    }
+  }
+
+  public long available(long nowNanos) {
+    return (burstNanos - Math.max(fullAt.get() - nowNanos, 0)) / emissionIntervalNanos;
+  }
+
+}
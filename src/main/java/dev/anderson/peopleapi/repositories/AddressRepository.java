@@ -1,10 +1,101 @@
 package dev.anderson.peopleapi.repositories;
 
 import dev.anderson.peopleapi.domain.entities.AddressEntity;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AddressRepository extends JpaRepository<AddressEntity, Long> {
 
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("select a from AddressEntity a")
+  Stream<AddressEntity> streamAll();
+
+  @Query("select a from AddressEntity a where a.id > :id order by a.id")
+  List<AddressEntity> findAfterId(@Param("id") Long id, Pageable pageable);
+
+  @Query("select a from AddressEntity a join fetch a.people"
+      + " where a.cep like :cepPrefix escape '!'"
+      + " order by a.cep, a.id")
+  List<AddressEntity> findFirstByCepPrefix(
+      @Param("cepPrefix") String cepPrefix,
+      Pageable pageable);
+
+  @Query("select a from AddressEntity a join fetch a.people"
+      + " where a.cep like :cepPrefix escape '!'"
+      + " and (a.cep > :cep or (a.cep = :cep and a.id > :id))"
+      + " order by a.cep, a.id")
+  List<AddressEntity> findAfterByCepPrefix(
+      @Param("cepPrefix") String cepPrefix,
+      @Param("cep") String cep,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  @Query("select a from AddressEntity a join fetch a.people"
+      + " where a.city = :city and a.id > :id"
+      + " order by a.id")
+  List<AddressEntity> findAfterByCity(
+      @Param("city") String city,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update AddressEntity a"
+      + " set a.publicPlace = :publicPlace, a.number = :number, a.city = :city, a.cep = :cep"
+      + " where a.id = :id and a.people.id = :peopleId")
+  int updateById(
+      @Param("peopleId") Long peopleId,
+      @Param("id") Long id,
+      @Param("publicPlace") String publicPlace,
+      @Param("number") String number,
+      @Param("city") String city,
+      @Param("cep") String cep);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update AddressEntity a"
+      + " set a.publicPlace = :newPublicPlace, a.number = :newNumber, a.city = :newCity,"
+      + " a.cep = :newCep"
+      + " where a.people.id = :peopleId"
+      + " and a.publicPlace = :publicPlace and a.number = :number and a.cep = :cep")
+  int updateByTuple(
+      @Param("peopleId") Long peopleId,
+      @Param("publicPlace") String publicPlace,
+      @Param("number") String number,
+      @Param("cep") String cep,
+      @Param("newPublicPlace") String newPublicPlace,
+      @Param("newNumber") String newNumber,
+      @Param("newCity") String newCity,
+      @Param("newCep") String newCep);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from AddressEntity a where a.id = :id and a.people.id = :peopleId")
+  int deleteById(@Param("peopleId") Long peopleId, @Param("id") Long id);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from AddressEntity a"
+      + " where a.people.id = :peopleId"
+      + " and a.publicPlace = :publicPlace and a.number = :number and a.cep = :cep")
+  int deleteByTuple(
+      @Param("peopleId") Long peopleId,
+      @Param("publicPlace") String publicPlace,
+      @Param("number") String number,
+      @Param("cep") String cep);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from AddressEntity a where a.people.id in :peopleIds")
+  int deleteByPeopleIdIn(@Param("peopleIds") Collection<Long> peopleIds);
+
 }
@@ -1,23 +1,90 @@
 package dev.anderson.peopleapi.repositories;
 
+import dev.anderson.peopleapi.domain.PeopleKey;
+import dev.anderson.peopleapi.domain.PeopleVersion;
 import dev.anderson.peopleapi.domain.entities.PeopleEntity;
+import dev.anderson.peopleapi.search.IndexedName;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PeopleRepository extends JpaRepository<PeopleEntity, Long> {
 
-  boolean existsByNameAndBirthDate(String name, LocalDate birthDate);
-
   Optional<PeopleEntity> findByNameAndBirthDate(String name, LocalDate birthDate);
 
+  @Query("select p.id from PeopleEntity p where p.name = :name and p.birthDate = :birthDate")
+  Optional<Long> findIdByNameAndBirthDate(
+      @Param("name") String name,
+      @Param("birthDate") LocalDate birthDate);
+
+  @Query("select new dev.anderson.peopleapi.domain.PeopleVersion(p.id, p.version)"
+      + " from PeopleEntity p where p.name = :name and p.birthDate = :birthDate")
+  Optional<PeopleVersion> findVersionByNameAndBirthDate(
+      @Param("name") String name,
+      @Param("birthDate") LocalDate birthDate);
+
+  @Query(value = "select new dev.anderson.peopleapi.domain.PeopleVersion(p.id, p.version)"
+      + " from PeopleEntity p",
+      countQuery = "select count(p) from PeopleEntity p")
+  Page<PeopleVersion> findVersions(Pageable pageable);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from PeopleEntity p where p.id in :ids")
+  int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Modifying(flushAutomatically = true)
+  @Query("update PeopleEntity p set p.version = p.version + 1 where p.id = :id")
+  int incrementVersion(@Param("id") Long id);
+
+  @EntityGraph(attributePaths = "addresses")
+  Optional<PeopleEntity> findWithAddressesByNameAndBirthDate(String name, LocalDate birthDate);
+
+  List<PeopleEntity> findByNameInAndBirthDateIn(
+      Collection<String> names,
+      Collection<LocalDate> birthDates);
+
+  @EntityGraph(attributePaths = "addresses")
+  List<PeopleEntity> findWithAddressesByIdIn(Collection<Long> ids);
+
+  @Query("select p from PeopleEntity p"
+      + " where (p.name = :name and p.birthDate = :birthDate)"
+      + " or (p.name = :newName and p.birthDate = :newBirthDate)")
+  List<PeopleEntity> findByEitherKey(
+      @Param("name") String name,
+      @Param("birthDate") LocalDate birthDate,
+      @Param("newName") String newName,
+      @Param("newBirthDate") LocalDate newBirthDate);
+
+  @Query("select new dev.anderson.peopleapi.domain.PeopleKey(p.name, p.birthDate)"
+      + " from PeopleEntity p where p.name in :names")
+  List<PeopleKey> findKeysByNameIn(@Param("names") Collection<String> names);
+
+  @Query("select new dev.anderson.peopleapi.search.IndexedName(p.id, p.name, p.birthDate)"
+      + " from PeopleEntity p")
+  Stream<IndexedName> streamIndexedNames();
+
   Page<PeopleEntity> findAll(Pageable pageable);
 
-  void deleteByNameAndBirthDate(String name, LocalDate birthDate);
+  @Query("select p from PeopleEntity p order by p.name, p.id")
+  List<PeopleEntity> findFirstByNameOrder(Pageable pageable);
 
+  @Query("select p from PeopleEntity p"
+      + " where p.name > :name or (p.name = :name and p.id > :id)"
+      + " order by p.name, p.id")
+  List<PeopleEntity> findAfterByNameOrder(
+      @Param("name") String name,
+      @Param("id") Long id,
+      Pageable pageable);
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package dev.anderson.peopleapi.repositories;
+
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hands out ids from a sequence the way Hibernate's pooled optimizer does for the JPA entities:
+ * each value read from the sequence reserves the {@code allocationSize} ids up to and including
+ * it, so the reactive inserts and the JPA entities draw disjoint blocks and a single insert does
+ * not burn a whole block. {@code allocationSize} must match the sequence increment.
+ */
+public final class PooledIds {
+
+  private final Supplier<Mono<Long>> nextValue;
+
+  private final int allocationSize;
+
+  private long next = 1;
+
+  private long hi;
+
+  public PooledIds(Supplier<Mono<Long>> nextValue, int allocationSize) {
+    this.nextValue = nextValue;
+    this.allocationSize = allocationSize;
+  }
+
+  public Mono<Long> nextId() {
+    return Mono.defer(() -> {
+      synchronized (this) {
+        if (next <= hi) {
+          return Mono.just(next++);
+        }
+      }
+      return nextValue.get().map(this::startBlock);
+    });
+  }
+
+  /**
+   * Concurrent callers that found the block exhausted each read a block of their own, the last one
+   * read becomes the current block and what is left of the others is skipped.
+   */
+  private synchronized long startBlock(long value) {
+    hi = value;
+    next = value - allocationSize + 1;
+    return next++;
+  }
+
+}
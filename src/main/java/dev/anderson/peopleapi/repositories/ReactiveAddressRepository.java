@@ -0,0 +1,52 @@
+package dev.anderson.peopleapi.repositories;
+
+import dev.anderson.peopleapi.domain.entities.AddressRow;
+import java.util.Collection;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveAddressRepository extends R2dbcRepository<AddressRow, Long> {
+
+  Flux<AddressRow> findByPeopleIdOrderById(Long peopleId);
+
+  Flux<AddressRow> findByPeopleIdInOrderById(Collection<Long> peopleIds);
+
+  @Query("select next value for address_entity_seq")
+  Mono<Long> nextSequenceValue();
+
+  @Modifying
+  @Query("update address_entity"
+      + " set public_place = :publicPlace, number = :number, city = :city, cep = :cep"
+      + " where id = :id and people_id = :peopleId")
+  Mono<Integer> updateById(
+      @Param("peopleId") Long peopleId,
+      @Param("id") Long id,
+      @Param("publicPlace") String publicPlace,
+      @Param("number") String number,
+      @Param("city") String city,
+      @Param("cep") String cep);
+
+  @Modifying
+  @Query("delete from address_entity where id = :id and people_id = :peopleId")
+  Mono<Integer> deleteById(@Param("peopleId") Long peopleId, @Param("id") Long id);
+
+  @Modifying
+  @Query("delete from address_entity where people_id = :peopleId"
+      + " and public_place = :publicPlace and number = :number and cep = :cep")
+  Mono<Integer> deleteByTuple(
+      @Param("peopleId") Long peopleId,
+      @Param("publicPlace") String publicPlace,
+      @Param("number") String number,
+      @Param("cep") String cep);
+
+  @Modifying
+  @Query("delete from address_entity where people_id = :peopleId")
+  Mono<Integer> deleteByPeopleId(@Param("peopleId") Long peopleId);
+
+}
@@ -0,0 +1,47 @@
+package dev.anderson.peopleapi.repositories;
+
+import dev.anderson.peopleapi.domain.entities.PeopleRow;
+import java.time.LocalDate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactivePeopleRepository extends R2dbcRepository<PeopleRow, Long> {
+
+  Mono<PeopleRow> findByNameAndBirthDate(String name, LocalDate birthDate);
+
+  Flux<PeopleRow> findAllBy(Pageable pageable);
+
+  @Query("select * from people_entity order by name, id limit :limit")
+  Flux<PeopleRow> findFirstByNameOrder(@Param("limit") int limit);
+
+  @Query("select * from people_entity"
+      + " where name > :name or (name = :name and id > :id)"
+      + " order by name, id limit :limit")
+  Flux<PeopleRow> findAfterByNameOrder(
+      @Param("name") String name,
+      @Param("id") Long id,
+      @Param("limit") int limit);
+
+  @Query("select next value for people_entity_seq")
+  Mono<Long> nextSequenceValue();
+
+  @Modifying
+  @Query("update people_entity set name = :name, birth_date = :birthDate, version = version + 1"
+      + " where id = :id")
+  Mono<Integer> updateNameAndDate(
+      @Param("id") Long id,
+      @Param("name") String name,
+      @Param("birthDate") LocalDate birthDate);
+
+  @Modifying
+  @Query("update people_entity set version = version + 1 where id = :id")
+  Mono<Integer> incrementVersion(@Param("id") Long id);
+
+}
@@ -0,0 +1,31 @@
+package dev.anderson.peopleapi.search;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * One person in the {@link NameIndex}. {@code key} is the name folded for matching: lower case and
+ * without accents, so "jo" finds "João".
+ */
+public record IndexedName(String key, Long id, String name, LocalDate birthDate) {
+
+  static final Comparator<IndexedName> ORDER = Comparator
+      .comparing(IndexedName::key)
+      .thenComparing(IndexedName::id);
+
+  private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+  public IndexedName(Long id, String name, LocalDate birthDate) {
+    this(fold(name), id, name, birthDate);
+  }
+
+  static String fold(String text) {
+    var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+
+    return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+  }
+
+}
@@ -0,0 +1,137 @@
+package dev.anderson.peopleapi.search;
+
+import dev.anderson.peopleapi.domain.DTO.KeysetCursor;
+import dev.anderson.peopleapi.domain.entities.PeopleEntity;
+import dev.anderson.peopleapi.repositories.PeopleRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory prefix index over people names, ordered by folded name and id. A prefix search seeks to
+ * the first matching entry and walks forward, so it costs O(log n + k) whatever the table size.
+ *
+ * <p>Loaded from the database at startup and kept in sync by the services on every write; writes
+ * made inside a transaction are applied once it commits. Each instance holds its own copy, so
+ * writes that bypass the services (or reach another instance) only show up after a restart.
+ */
+@Component
+@Profile("!reactive")
+public class NameIndex implements SmartInitializingSingleton {
+
+  private final ConcurrentSkipListSet<IndexedName> names =
+      new ConcurrentSkipListSet<>(IndexedName.ORDER);
+
+  private final ConcurrentHashMap<Long, IndexedName> byId = new ConcurrentHashMap<>();
+
+  private final PeopleRepository peopleRepository;
+
+  private final TransactionTemplate readOnlyTransaction;
+
+  public NameIndex(
+      PeopleRepository peopleRepository,
+      PlatformTransactionManager transactionManager
+  ) {
+    this.peopleRepository = peopleRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    readOnlyTransaction.executeWithoutResult(status -> {
+      try (var indexedNames = peopleRepository.streamIndexedNames()) {
+        indexedNames.forEach(this::apply);
+      }
+    });
+  }
+
+  /**
+   * Up to {@code limit} entries whose name starts with {@code prefix}, after {@code after} when
+   * continuing a previous search.
+   */
+  public List<IndexedName> search(String prefix, KeysetCursor after, int limit) {
+    var key = IndexedName.fold(prefix);
+    var candidates = after == null
+        ? names.tailSet(new IndexedName(key, Long.MIN_VALUE, null, null), true)
+        : names.tailSet(new IndexedName(after.key(), after.id(), null, null), false);
+    var matches = new ArrayList<IndexedName>(limit);
+
+    for (IndexedName candidate : candidates) {
+      if (matches.size() == limit || !candidate.key().startsWith(key)) {
+        break;
+      }
+      matches.add(candidate);
+    }
+    return matches;
+  }
+
+  public boolean contains(String name, LocalDate birthDate) {
+    var key = IndexedName.fold(name);
+
+    for (IndexedName candidate : names.tailSet(new IndexedName(key, Long.MIN_VALUE, null, null))) {
+      if (!candidate.key().equals(key)) {
+        return false;
+      }
+      if (candidate.name().equals(name) && candidate.birthDate().equals(birthDate)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public void put(PeopleEntity peopleEntity) {
+    put(new IndexedName(
+        peopleEntity.getId(), peopleEntity.getName(), peopleEntity.getBirthDate()));
+  }
+
+  public void put(IndexedName indexedName) {
+    afterCommit(() -> apply(indexedName));
+  }
+
+  public void remove(PeopleEntity peopleEntity) {
+    var id = peopleEntity.getId();
+
+    afterCommit(() -> byId.computeIfPresent(id, (ignored, indexed) -> {
+      names.remove(indexed);
+      return null;
+    }));
+  }
+
+  public int size() {
+    return byId.size();
+  }
+
+  private void apply(IndexedName indexedName) {
+    byId.compute(indexedName.id(), (ignored, previous) -> {
+      if (previous != null) {
+        names.remove(previous);
+      }
+      names.add(indexedName);
+      return indexedName;
+    });
+  }
+
+  private void afterCommit(Runnable change) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      change.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        change.run();
+      }
+    });
+  }
+
+}
@@ -7,9 +7,26 @@ public interface AddressService {
 
   ResponseEntity<?> listAll();
 
+  ResponseEntity<?> listAfterId(Long afterId, Integer size);
+
   ResponseEntity<?> findAddress(String name, String birthDate);
 
+  ResponseEntity<?> findAddress(String name, String birthDate, String ifNoneMatch);
+
+  ResponseEntity<?> findAddress(Long id);
+
+  ResponseEntity<?> listByCep(String cepPrefix, String after, Integer size);
+
+  ResponseEntity<?> listByCity(String city, String after, Integer size);
+
   ResponseEntity<?> makeAddress(String name, String birthDate, AddressDTO addressDTO);
 
+  ResponseEntity<?> updateAddress(String name, String birthDate, Long id, AddressDTO addressDTO);
+
+  ResponseEntity<?> updateAddress(
+      String name, String birthDate, AddressDTO oldAddressDTO, AddressDTO addressDTO);
+
+  ResponseEntity<?> deleteAddress(String name, String birthDate, Long id);
+
   ResponseEntity<?> deleteAddress(String name, String birthDate, AddressDTO addressDTO);
 }
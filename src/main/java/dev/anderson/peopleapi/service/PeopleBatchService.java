@@ -0,0 +1,15 @@
+package dev.anderson.peopleapi.service;
+
+import dev.anderson.peopleapi.domain.DTO.PeopleInputDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleKeyDTO;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+
+public interface PeopleBatchService {
+
+  ResponseEntity<?> replacePeople(List<PeopleInputDTO> peopleInputDTOList);
+
+  ResponseEntity<?> updatePeople(List<PeopleInputDTO> peopleInputDTOList);
+
+  ResponseEntity<?> deletePeople(List<PeopleKeyDTO> peopleKeys);
+}
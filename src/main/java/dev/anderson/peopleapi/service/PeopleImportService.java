@@ -0,0 +1,10 @@
+package dev.anderson.peopleapi.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.ResponseEntity;
+
+public interface PeopleImportService {
+
+  ResponseEntity<?> importPeople(InputStream ndjson) throws IOException;
+}
@@ -1,14 +1,26 @@
 package dev.anderson.peopleapi.service;
 
 import dev.anderson.peopleapi.domain.DTO.PeopleInputDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleKeyDTO;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
 
 public interface PeopleService {
 
   ResponseEntity<?> listAll(Integer page, Integer size);
 
+  ResponseEntity<?> listAll(Integer page, Integer size, String ifNoneMatch);
+
+  ResponseEntity<?> listAfter(String after, Integer size);
+
   ResponseEntity<?> findPeople(String name, String birthDate);
 
+  ResponseEntity<?> findPeople(String name, String birthDate, String ifNoneMatch);
+
+  ResponseEntity<?> lookupPeople(List<PeopleKeyDTO> peopleKeys);
+
+  ResponseEntity<?> searchPeople(String prefix, String after, Integer size);
+
   ResponseEntity<?> makePeople(String name, String birthDate);
 
   ResponseEntity<?> replacePeople(PeopleInputDTO peopleInputDTO);
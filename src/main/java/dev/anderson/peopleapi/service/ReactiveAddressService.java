@@ -0,0 +1,23 @@
+package dev.anderson.peopleapi.service;
+
+import dev.anderson.peopleapi.domain.DTO.AddressDTO;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAddressService {
+
+  Mono<ResponseEntity<?>> listAll();
+
+  Mono<ResponseEntity<?>> findAddress(String name, String birthDate, String ifNoneMatch);
+
+  Mono<ResponseEntity<?>> findAddress(Long id);
+
+  Mono<ResponseEntity<?>> makeAddress(String name, String birthDate, AddressDTO addressDTO);
+
+  Mono<ResponseEntity<?>> updateAddress(
+      String name, String birthDate, Long id, AddressDTO addressDTO);
+
+  Mono<ResponseEntity<?>> deleteAddress(String name, String birthDate, Long id);
+
+  Mono<ResponseEntity<?>> deleteAddress(String name, String birthDate, AddressDTO addressDTO);
+}
@@ -0,0 +1,22 @@
+package dev.anderson.peopleapi.service;
+
+import dev.anderson.peopleapi.domain.DTO.PeopleInputDTO;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+public interface ReactivePeopleService {
+
+  Mono<ResponseEntity<?>> listAll(Integer page, Integer size, String ifNoneMatch);
+
+  Mono<ResponseEntity<?>> listAfter(String after, Integer size);
+
+  Mono<ResponseEntity<?>> findPeople(String name, String birthDate, String ifNoneMatch);
+
+  Mono<ResponseEntity<?>> makePeople(String name, String birthDate);
+
+  Mono<ResponseEntity<?>> replacePeople(PeopleInputDTO peopleInputDTO);
+
+  Mono<ResponseEntity<?>> updatePeople(PeopleInputDTO peopleInputDTO);
+
+  Mono<ResponseEntity<?>> deletePeople(String name, String birthDate);
+}
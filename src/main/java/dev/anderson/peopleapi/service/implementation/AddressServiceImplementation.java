@@ -1,74 +1,368 @@
 package dev.anderson.peopleapi.service.implementation;
 
+import dev.anderson.peopleapi.cache.ResponseCache;
+import dev.anderson.peopleapi.domain.BirthDates;
 import dev.anderson.peopleapi.domain.DTO.AddressDTO;
+import dev.anderson.peopleapi.domain.DTO.AddressOwnerDTO;
+import dev.anderson.peopleapi.domain.DTO.ErrorDTO;
+import dev.anderson.peopleapi.domain.DTO.KeysetCursor;
+import dev.anderson.peopleapi.domain.DTO.StreamedListDTO;
+import dev.anderson.peopleapi.domain.EntityTags;
+import dev.anderson.peopleapi.domain.PageSizes;
+import dev.anderson.peopleapi.domain.PeopleKey;
+import dev.anderson.peopleapi.domain.PeopleVersion;
 import dev.anderson.peopleapi.domain.entities.AddressEntity;
 import dev.anderson.peopleapi.domain.entities.PeopleEntity;
-import dev.anderson.peopleapi.exceptions.UserNotFoundException;
 import dev.anderson.peopleapi.repositories.AddressRepository;
 import dev.anderson.peopleapi.repositories.PeopleRepository;
 import dev.anderson.peopleapi.service.AddressService;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
+@Profile("!reactive")
 public class AddressServiceImplementation implements AddressService {
 
+  private static final Pattern LIKE_WILDCARDS = Pattern.compile("[!%_]");
+
   private final PeopleRepository peopleRepository;
 
   private final AddressRepository addressRepository;
 
+  private final EntityManager entityManager;
+
+  private final TransactionTemplate readOnlyTransaction;
+
+  /**
+   * Not read-only, so with routing on the cache is filled from the primary, as in
+   * {@link PeopleServiceImplementation}.
+   */
+  private final TransactionTemplate cacheLoadTransaction;
+
+  private final ResponseCache responseCache;
+
   public AddressServiceImplementation(
       PeopleRepository peopleRepository,
-      AddressRepository addressRepository
+      AddressRepository addressRepository,
+      EntityManager entityManager,
+      PlatformTransactionManager transactionManager,
+      ResponseCache responseCache
   ) {
     this.peopleRepository = peopleRepository;
     this.addressRepository = addressRepository;
+    this.entityManager = entityManager;
+    this.responseCache = responseCache;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.cacheLoadTransaction = new TransactionTemplate(transactionManager);
   }
 
   @Override
+  @Timed("address.service")
   public ResponseEntity<?> listAll() {
-    return ResponseEntity.ok(AddressDTO.fromEntityList(addressRepository.findAll()));
+    return ResponseEntity.ok(new StreamedListDTO<AddressDTO>(this::streamAll));
   }
 
   @Override
+  @Timed("address.service")
+  @Transactional(readOnly = true)
+  public ResponseEntity<?> listAfterId(Long afterId, Integer size) {
+    if (!PageSizes.isValid(size)) {
+      return new ResponseEntity<>(ErrorDTO.invalidSize(PageSizes.MAX_SIZE), null, 400);
+    }
+    return ResponseEntity.ok(AddressDTO.fromEntityList(
+        addressRepository.findAfterId(afterId, PageRequest.ofSize(size))));
+  }
+
+  @Override
+  @Timed("address.service")
   public ResponseEntity<?> findAddress(String name, String birthDate) {
-    var peopleEntity = findEntity(name, birthDate);
-    var addressList = peopleEntity.getAddresses();
+    return findAddress(name, birthDate, null);
+  }
+
+  /**
+   * Runs without a surrounding transaction: cache hits and readers waiting on a concurrent load
+   * of the same key do not hold a connection, only the load itself does.
+   */
+  @Override
+  @Timed("address.service")
+  public ResponseEntity<?> findAddress(String name, String birthDate, String ifNoneMatch) {
+    var key = keyOf(name, birthDate);
+    var cached = responseCache.getAddress(key);
 
-    return new ResponseEntity<>(AddressDTO.fromEntityList(addressList), null, 200);
+    if (cached != null) {
+      return EntityTags.matches(ifNoneMatch, cached.etag())
+          ? notModified(cached.etag())
+          : new ResponseEntity<>(cached, getETag(cached.etag()), 200);
+    }
+
+    if (ifNoneMatch != null) {
+      var etag = peopleRepository.findVersionByNameAndBirthDate(key.name(), key.birthDate())
+          .map(EntityTags::of);
+
+      if (etag.isPresent() && EntityTags.matches(ifNoneMatch, etag.get())) {
+        return notModified(etag.get());
+      }
+    }
+
+    var stamp = responseCache.stamp();
+    var loaded = responseCache.loadAddress(key, stamp, () -> cacheLoadTransaction.execute(
+        status -> findEntity(key)
+            .map(peopleEntity -> responseCache.putAddress(
+                key,
+                AddressDTO.fromEntityList(peopleEntity.getAddresses()),
+                EntityTags.of(PeopleVersion.of(peopleEntity)),
+                stamp))
+            .orElse(null)));
+
+    if (loaded == null) {
+      return notFound(name, birthDate);
+    }
+    return new ResponseEntity<>(loaded, getETag(loaded.etag()), 200);
+  }
+
+  @Override
+  @Timed("address.service")
+  @Transactional(readOnly = true)
+  public ResponseEntity<?> findAddress(Long id) {
+    return addressRepository.findById(id)
+        .<ResponseEntity<?>>map(addressEntity ->
+            new ResponseEntity<>(AddressDTO.of(addressEntity), null, 200))
+        .orElseGet(() -> addressNotFound("id: " + id));
   }
 
   @Override
+  @Timed("address.service")
+  @Transactional(readOnly = true)
+  public ResponseEntity<?> listByCep(String cepPrefix, String after, Integer size) {
+    if (!PageSizes.isValid(size)) {
+      return new ResponseEntity<>(ErrorDTO.invalidSize(PageSizes.MAX_SIZE), null, 400);
+    }
+
+    var pageRequest = PageRequest.ofSize(size + 1);
+    var likePrefix = LIKE_WILDCARDS.matcher(cepPrefix).replaceAll("!$0") + "%";
+    var addressList = after.isEmpty()
+        ? addressRepository.findFirstByCepPrefix(likePrefix, pageRequest)
+        : findAfterByCep(likePrefix, KeysetCursor.decode(after), pageRequest);
+
+    return keysetPage(addressList, size, AddressEntity::getCep);
+  }
+
+  @Override
+  @Timed("address.service")
+  @Transactional(readOnly = true)
+  public ResponseEntity<?> listByCity(String city, String after, Integer size) {
+    if (!PageSizes.isValid(size)) {
+      return new ResponseEntity<>(ErrorDTO.invalidSize(PageSizes.MAX_SIZE), null, 400);
+    }
+
+    var pageRequest = PageRequest.ofSize(size + 1);
+    var afterId = after.isEmpty() ? 0L : KeysetCursor.decode(after).id();
+    var addressList = addressRepository.findAfterByCity(city, afterId, pageRequest);
+
+    return keysetPage(addressList, size, AddressEntity::getCity);
+  }
+
+  @Override
+  @Timed("address.service")
+  @Transactional
   public ResponseEntity<?> makeAddress(String name, String birthDate, AddressDTO addressDTO) {
-    var peopleEntity = findEntity(name, birthDate);
+    var key = keyOf(name, birthDate);
+    var peopleId = findId(key);
+
+    if (peopleId.isEmpty()) {
+      return notFound(name, birthDate);
+    }
+
+    var addressEntity = addressRepository.save(
+        AddressEntity.fromDTO(addressDTO, peopleRepository.getReferenceById(peopleId.get())));
+
+    peopleRepository.incrementVersion(peopleId.get());
+    responseCache.invalidate(key);
+    return new ResponseEntity<>(AddressDTO.of(addressEntity), getLocation(addressEntity), 201);
+  }
+
+  @Override
+  @Timed("address.service")
+  @Transactional
+  public ResponseEntity<?> updateAddress(
+      String name, String birthDate, Long id, AddressDTO addressDTO) {
+    var key = keyOf(name, birthDate);
+    var peopleId = findId(key);
+
+    if (peopleId.isEmpty()) {
+      return notFound(name, birthDate);
+    }
+
+    var updated = addressRepository.updateById(peopleId.get(), id,
+        addressDTO.publicPlace(), addressDTO.number(), addressDTO.city(), addressDTO.cep());
+
+    if (updated == 0) {
+      return addressNotFound("id: " + id);
+    }
+    peopleRepository.incrementVersion(peopleId.get());
+    responseCache.invalidate(key);
+    return new ResponseEntity<>(null, null, 200);
+  }
 
-    peopleEntity.updateAddress(AddressEntity.fromDTO(addressDTO));
-    peopleRepository.save(peopleEntity);
-    return new ResponseEntity<>(null, null, 201);
+  @Override
+  @Timed("address.service")
+  @Transactional
+  public ResponseEntity<?> updateAddress(
+      String name, String birthDate, AddressDTO oldAddressDTO, AddressDTO addressDTO) {
+    var key = keyOf(name, birthDate);
+    var peopleId = findId(key);
+
+    if (peopleId.isEmpty()) {
+      return notFound(name, birthDate);
+    }
+
+    var updated = addressRepository.updateByTuple(peopleId.get(),
+        oldAddressDTO.publicPlace(), oldAddressDTO.number(), oldAddressDTO.cep(),
+        addressDTO.publicPlace(), addressDTO.number(), addressDTO.city(), addressDTO.cep());
+
+    if (updated == 0) {
+      return addressNotFound("public place: " + oldAddressDTO.publicPlace()
+          + ", number: " + oldAddressDTO.number() + " and cep: " + oldAddressDTO.cep());
+    }
+    peopleRepository.incrementVersion(peopleId.get());
+    responseCache.invalidate(key);
+    return new ResponseEntity<>(null, null, 200);
   }
 
   @Override
+  @Timed("address.service")
+  @Transactional
+  public ResponseEntity<?> deleteAddress(String name, String birthDate, Long id) {
+    var key = keyOf(name, birthDate);
+    var peopleId = findId(key);
+
+    if (peopleId.isEmpty()) {
+      return notFound(name, birthDate);
+    }
+
+    if (addressRepository.deleteById(peopleId.get(), id) == 0) {
+      return addressNotFound("id: " + id);
+    }
+    peopleRepository.incrementVersion(peopleId.get());
+    responseCache.invalidate(key);
+    return new ResponseEntity<>(null, null, 200);
+  }
+
+  @Override
+  @Timed("address.service")
   @Transactional
   public ResponseEntity<?> deleteAddress(String name, String birthDate, AddressDTO addressDTO) {
-    var peopleEntity = findEntity(name, birthDate);
+    var key = keyOf(name, birthDate);
+    var peopleId = findId(key);
+
+    if (peopleId.isEmpty()) {
+      return notFound(name, birthDate);
+    }
 
-    peopleEntity.deleteAddress(AddressEntity.fromDTO(addressDTO));
-    peopleRepository.save(peopleEntity);
+    var deleted = addressRepository.deleteByTuple(
+        peopleId.get(), addressDTO.publicPlace(), addressDTO.number(), addressDTO.cep());
+
+    if (deleted == 0) {
+      return addressNotFound("public place: " + addressDTO.publicPlace()
+          + ", number: " + addressDTO.number() + " and cep: " + addressDTO.cep());
+    }
+    peopleRepository.incrementVersion(peopleId.get());
+    responseCache.invalidate(key);
     return new ResponseEntity<>(null, null, 200);
   }
 
-  private PeopleEntity findEntity(String name, String birthDate) {
-    var formatter = DateTimeFormatter.ofPattern("d/MM/yyyy");
+  private void streamAll(Consumer<AddressDTO> sink) {
+    readOnlyTransaction.executeWithoutResult(status -> {
+      try (var addresses = addressRepository.streamAll()) {
+        addresses.forEach(addressEntity -> {
+          sink.accept(AddressDTO.of(addressEntity));
+          entityManager.detach(addressEntity);
+        });
+      }
+    });
+  }
+
+  private List<AddressEntity> findAfterByCep(
+      String likePrefix, KeysetCursor cursor, Pageable pageable) {
+    return addressRepository.findAfterByCepPrefix(likePrefix, cursor.key(), cursor.id(), pageable);
+  }
+
+  private ResponseEntity<?> keysetPage(
+      List<AddressEntity> addressList, Integer size, Function<AddressEntity, String> sortKey) {
+    if (addressList.size() <= size) {
+      return new ResponseEntity<>(AddressOwnerDTO.fromEntityList(addressList), null, 200);
+    }
+
+    var pageContent = addressList.subList(0, size);
+    var last = pageContent.get(size - 1);
+
+    return new ResponseEntity<>(
+        AddressOwnerDTO.fromEntityList(pageContent),
+        getNextCursor(new KeysetCursor(sortKey.apply(last), last.getId())),
+        200);
+  }
+
+  private HttpHeaders getNextCursor(KeysetCursor cursor) {
+    HttpHeaders headers = new HttpHeaders();
+
+    headers.add("Access-Control-Expose-Headers", "X-Next-Cursor");
+    headers.add("x-next-cursor", cursor.encode());
+    return headers;
+  }
+
+  private Optional<Long> findId(PeopleKey key) {
+    return peopleRepository.findIdByNameAndBirthDate(key.name(), key.birthDate());
+  }
+
+  private Optional<PeopleEntity> findEntity(PeopleKey key) {
+    return peopleRepository.findWithAddressesByNameAndBirthDate(key.name(), key.birthDate());
+  }
+
+  private ResponseEntity<?> notModified(String etag) {
+    return new ResponseEntity<>(null, getETag(etag), 304);
+  }
+
+  private ResponseEntity<ErrorDTO> notFound(String name, String birthDate) {
+    return new ResponseEntity<>(ErrorDTO.notFound(name, birthDate), null, 404);
+  }
+
+  private ResponseEntity<ErrorDTO> addressNotFound(String address) {
+    return new ResponseEntity<>(ErrorDTO.of("Address with " + address + "-> Not found"), null, 404);
+  }
+
+  private HttpHeaders getETag(String etag) {
+    HttpHeaders headers = new HttpHeaders();
+
+    headers.add("Access-Control-Expose-Headers", "ETag");
+    headers.setETag(etag);
+    return headers;
+  }
+
+  private HttpHeaders getLocation(AddressEntity addressEntity) {
+    HttpHeaders headers = new HttpHeaders();
+
+    headers.setLocation(URI.create("/api/v1/address/" + addressEntity.getId()));
+    return headers;
+  }
 
-    return peopleRepository
-        .findByNameAndBirthDate(name, LocalDate.parse(birthDate, formatter))
-        .orElseThrow(() -> new UserNotFoundException(
-            "People with name: " + name + " and Birth Date: "
-                + birthDate + "-> Not found"
-        ));
+  private PeopleKey keyOf(String name, String birthDate) {
+    return new PeopleKey(name, BirthDates.parse(birthDate));
   }
 
 }
@@ -0,0 +1,320 @@
+package dev.anderson.peopleapi.service.implementation;
+
+import dev.anderson.peopleapi.cache.ResponseCache;
+import dev.anderson.peopleapi.domain.BirthDates;
+import dev.anderson.peopleapi.domain.DTO.BatchItemDTO;
+import dev.anderson.peopleapi.domain.DTO.BatchReportDTO;
+import dev.anderson.peopleapi.domain.DTO.ErrorDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleInputDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleKeyDTO;
+import dev.anderson.peopleapi.domain.PeopleKey;
+import dev.anderson.peopleapi.domain.entities.PeopleEntity;
+import dev.anderson.peopleapi.repositories.AddressRepository;
+import dev.anderson.peopleapi.repositories.PeopleRepository;
+import dev.anderson.peopleapi.search.NameIndex;
+import dev.anderson.peopleapi.service.PeopleBatchService;
+import dev.anderson.peopleapi.writebehind.PeopleWriteBuffer;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.PersistenceException;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Batch counterparts of the single-people writes, for at most {@code people.batch.max-items}
+ * items. Items are applied in chunks of {@code people.batch.chunk-size}, each in its own
+ * transaction: a chunk loads every people it touches with one query, applies the items in order
+ * and writes them back with JDBC-batched updates or two bulk deletes. An update taking a key that
+ * an earlier item of the chunk gave up flushes the pending updates first, so the unique key sees
+ * the renames in item order. A chunk that fails to commit reports its applied items as 409.
+ */
+@Service
+@Profile("!reactive")
+public class PeopleBatchServiceImplementation implements PeopleBatchService {
+
+  private final PeopleRepository peopleRepository;
+
+  private final AddressRepository addressRepository;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final ResponseCache responseCache;
+
+  private final NameIndex nameIndex;
+
+  private final int chunkSize;
+
+  private final int maxItems;
+
+  private final PeopleWriteBuffer writeBuffer;
+
+  public PeopleBatchServiceImplementation(
+      PeopleRepository peopleRepository,
+      AddressRepository addressRepository,
+      PlatformTransactionManager transactionManager,
+      ResponseCache responseCache,
+      NameIndex nameIndex,
+      ObjectProvider<PeopleWriteBuffer> writeBuffer,
+      @Value("${people.batch.chunk-size:500}") int chunkSize,
+      @Value("${people.batch.max-items:10000}") int maxItems
+  ) {
+    this.peopleRepository = peopleRepository;
+    this.addressRepository = addressRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.responseCache = responseCache;
+    this.nameIndex = nameIndex;
+    this.chunkSize = chunkSize;
+    this.maxItems = maxItems;
+    this.writeBuffer = writeBuffer.getIfAvailable();
+  }
+
+  @Override
+  @Timed("people.service")
+  public ResponseEntity<?> replacePeople(List<PeopleInputDTO> peopleInputDTOList) {
+    return updateAll(peopleInputDTOList, true);
+  }
+
+  @Override
+  @Timed("people.service")
+  public ResponseEntity<?> updatePeople(List<PeopleInputDTO> peopleInputDTOList) {
+    return updateAll(peopleInputDTOList, false);
+  }
+
+  @Override
+  @Timed("people.service")
+  public ResponseEntity<?> deletePeople(List<PeopleKeyDTO> peopleKeys) {
+    if (peopleKeys.size() > maxItems) {
+      return tooManyItems();
+    }
+
+    var items = new ArrayList<BatchItemDTO>(peopleKeys.size());
+    var deletes = new ArrayList<BatchDelete>(peopleKeys.size());
+
+    for (int index = 0; index < peopleKeys.size(); index++) {
+      try {
+        deletes.add(parseDelete(index, peopleKeys.get(index)));
+      } catch (DateTimeParseException | IllegalArgumentException e) {
+        items.add(BatchItemDTO.of(index, 400, ErrorDTO.of(e.getMessage())));
+      }
+    }
+    runInChunks(deletes, this::deleteChunk, items);
+    return report(items);
+  }
+
+  private ResponseEntity<?> updateAll(List<PeopleInputDTO> peopleInputDTOList, boolean replace) {
+    if (peopleInputDTOList.size() > maxItems) {
+      return tooManyItems();
+    }
+
+    var items = new ArrayList<BatchItemDTO>(peopleInputDTOList.size());
+    var updates = new ArrayList<BatchUpdate>(peopleInputDTOList.size());
+
+    for (int index = 0; index < peopleInputDTOList.size(); index++) {
+      try {
+        updates.add(parseUpdate(index, peopleInputDTOList.get(index), replace));
+      } catch (DateTimeParseException | IllegalArgumentException e) {
+        items.add(BatchItemDTO.of(index, 400, ErrorDTO.of(e.getMessage())));
+      }
+    }
+    runInChunks(updates, this::updateChunk, items);
+    return report(items);
+  }
+
+  private void updateChunk(List<BatchUpdate> chunk, List<BatchItemDTO> chunkItems) {
+    var byKey = findByKey(chunk.stream()
+        .flatMap(update -> Stream.of(update.oldKey(), update.newKey()))
+        .toList());
+    var released = new HashSet<PeopleKey>();
+
+    for (BatchUpdate update : chunk) {
+      var peopleEntity = byKey.get(update.oldKey());
+      var input = update.peopleInputDTO();
+
+      if (peopleEntity == null) {
+        chunkItems.add(BatchItemDTO.of(update.index(), 404,
+            ErrorDTO.notFound(input.name(), input.birthDate())));
+        continue;
+      }
+      var keyTaken = (update.replace() || !update.newKey().equals(update.oldKey()))
+          && byKey.containsKey(update.newKey());
+
+      if (keyTaken || isBuffered(update.newKey())) {
+        chunkItems.add(BatchItemDTO.of(update.index(), 400,
+            ErrorDTO.alreadyExists(input.newName(), input.newBirthDate())));
+        continue;
+      }
+      if (released.contains(update.newKey())) {
+        peopleRepository.flush();
+        released.clear();
+      }
+      if (!update.newKey().equals(update.oldKey())) {
+        released.add(update.oldKey());
+      }
+
+      byKey.remove(update.oldKey());
+      peopleEntity.updateNameAndDate(input);
+      byKey.put(update.newKey(), peopleEntity);
+      responseCache.invalidate(update.oldKey(), update.newKey());
+      nameIndex.put(peopleEntity);
+      chunkItems.add(BatchItemDTO.ok(update.index()));
+    }
+    peopleRepository.flush();
+  }
+
+  private void deleteChunk(List<BatchDelete> chunk, List<BatchItemDTO> chunkItems) {
+    var byKey = findByKey(chunk.stream().map(BatchDelete::key).toList());
+    var ids = new ArrayList<Long>(chunk.size());
+
+    for (BatchDelete delete : chunk) {
+      var peopleEntity = byKey.remove(delete.key());
+
+      if (peopleEntity == null) {
+        chunkItems.add(BatchItemDTO.of(delete.index(), 404,
+            ErrorDTO.notFound(delete.peopleKey().name(), delete.peopleKey().birthDate())));
+        continue;
+      }
+
+      ids.add(peopleEntity.getId());
+      responseCache.invalidate(delete.key());
+      nameIndex.remove(peopleEntity);
+      chunkItems.add(BatchItemDTO.ok(delete.index()));
+    }
+    if (!ids.isEmpty()) {
+      addressRepository.deleteByPeopleIdIn(ids);
+      peopleRepository.deleteByIdIn(ids);
+    }
+  }
+
+  private <T extends BatchLine> void runInChunks(List<T> lines,
+      BiConsumer<List<T>, List<BatchItemDTO>> chunkWork, List<BatchItemDTO> items) {
+    for (int from = 0; from < lines.size(); from += chunkSize) {
+      var chunk = lines.subList(from, Math.min(from + chunkSize, lines.size()));
+      var chunkItems = new ArrayList<BatchItemDTO>(chunk.size());
+
+      try {
+        transactionTemplate.executeWithoutResult(status -> chunkWork.accept(chunk, chunkItems));
+        items.addAll(chunkItems);
+      } catch (DataAccessException | PersistenceException e) {
+        items.addAll(rolledBack(chunk, chunkItems, e));
+      }
+    }
+  }
+
+  private List<BatchItemDTO> rolledBack(List<? extends BatchLine> chunk,
+      List<BatchItemDTO> chunkItems, Exception e) {
+    var error = ErrorDTO.of(
+        "Chunk rolled back: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+    var reported = new HashSet<Integer>();
+    var items = new ArrayList<BatchItemDTO>(chunk.size());
+
+    for (BatchItemDTO item : chunkItems) {
+      reported.add(item.index());
+      items.add(item.status() == 200 ? BatchItemDTO.of(item.index(), 409, error) : item);
+    }
+    for (BatchLine line : chunk) {
+      if (!reported.contains(line.index())) {
+        items.add(BatchItemDTO.of(line.index(), 409, error));
+      }
+    }
+    return items;
+  }
+
+  private Map<PeopleKey, PeopleEntity> findByKey(List<PeopleKey> keys) {
+    var names = keys.stream().map(PeopleKey::name).distinct().toList();
+    var birthDates = keys.stream().map(PeopleKey::birthDate).distinct().toList();
+    var candidates = peopleRepository.findByNameInAndBirthDateIn(names, birthDates);
+    var byKey = new HashMap<PeopleKey, PeopleEntity>();
+
+    for (PeopleEntity peopleEntity : candidates) {
+      byKey.put(new PeopleKey(peopleEntity.getName(), peopleEntity.getBirthDate()), peopleEntity);
+    }
+    return byKey;
+  }
+
+  private boolean isBuffered(PeopleKey key) {
+    return writeBuffer != null && writeBuffer.contains(key);
+  }
+
+  private ResponseEntity<?> report(List<BatchItemDTO> items) {
+    items.sort(Comparator.comparingInt(BatchItemDTO::index));
+
+    var succeeded = items.stream().filter(item -> item.status() == 200).count();
+
+    return new ResponseEntity<>(new BatchReportDTO(succeeded, items), null, 200);
+  }
+
+  private ResponseEntity<?> tooManyItems() {
+    return new ResponseEntity<>(
+        ErrorDTO.of("Batch accepts at most " + maxItems + " items"), null, 400);
+  }
+
+  private BatchUpdate parseUpdate(int index, PeopleInputDTO peopleInputDTO, boolean replace) {
+    if (peopleInputDTO == null
+        || peopleInputDTO.name() == null || peopleInputDTO.birthDate() == null) {
+      throw new IllegalArgumentException("name and birthDate are required");
+    }
+
+    var newName = Objects.requireNonNullElse(peopleInputDTO.newName(), "");
+    var newBirthDate = Objects.requireNonNullElse(peopleInputDTO.newBirthDate(), "");
+
+    if (replace && (newName.isEmpty() || newBirthDate.isEmpty())) {
+      throw new IllegalArgumentException("newName and newBirthDate are required");
+    }
+
+    var input = new PeopleInputDTO(peopleInputDTO.name(), peopleInputDTO.birthDate(),
+        newName.isEmpty() ? peopleInputDTO.name() : newName,
+        newBirthDate.isEmpty() ? peopleInputDTO.birthDate() : newBirthDate);
+
+    return new BatchUpdate(index, input, replace,
+        new PeopleKey(input.name(), BirthDates.parse(input.birthDate())),
+        new PeopleKey(input.newName(), BirthDates.parse(input.newBirthDate())));
+  }
+
+  private BatchDelete parseDelete(int index, PeopleKeyDTO peopleKey) {
+    if (peopleKey == null || peopleKey.name() == null || peopleKey.birthDate() == null) {
+      throw new IllegalArgumentException("name and birthDate are required");
+    }
+    return new BatchDelete(index, peopleKey,
+        new PeopleKey(peopleKey.name(), BirthDates.parse(peopleKey.birthDate())));
+  }
+
+  private interface BatchLine {
+
+    int index();
+  }
+
+  private record BatchUpdate(
+      int index,
+      PeopleInputDTO peopleInputDTO,
+      boolean replace,
+      PeopleKey oldKey,
+      PeopleKey newKey
+  ) implements BatchLine {
+
+  }
+
+  private record BatchDelete(
+      int index,
+      PeopleKeyDTO peopleKey,
+      PeopleKey key
+  ) implements BatchLine {
+
+  }
+
+}
@@ -0,0 +1,186 @@
+package dev.anderson.peopleapi.service.implementation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.anderson.peopleapi.domain.BirthDates;
+import dev.anderson.peopleapi.domain.DTO.AddressDTO;
+import dev.anderson.peopleapi.domain.DTO.ImportErrorDTO;
+import dev.anderson.peopleapi.domain.DTO.ImportReportDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleDTO;
+import dev.anderson.peopleapi.domain.PeopleKey;
+import dev.anderson.peopleapi.domain.entities.AddressEntity;
+import dev.anderson.peopleapi.domain.entities.PeopleEntity;
+import dev.anderson.peopleapi.repositories.PeopleRepository;
+import dev.anderson.peopleapi.search.NameIndex;
+import dev.anderson.peopleapi.service.PeopleImportService;
+import dev.anderson.peopleapi.writebehind.PeopleWriteBuffer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@Profile("!reactive")
+public class PeopleImportServiceImplementation implements PeopleImportService {
+
+  private final PeopleRepository peopleRepository;
+
+  private final EntityManager entityManager;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final ObjectMapper objectMapper;
+
+  private final NameIndex nameIndex;
+
+  private final int chunkSize;
+
+  private final PeopleWriteBuffer writeBuffer;
+
+  public PeopleImportServiceImplementation(
+      PeopleRepository peopleRepository,
+      EntityManager entityManager,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper,
+      NameIndex nameIndex,
+      ObjectProvider<PeopleWriteBuffer> writeBuffer,
+      @Value("${people.import.chunk-size:1000}") int chunkSize
+  ) {
+    this.peopleRepository = peopleRepository;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.objectMapper = objectMapper;
+    this.nameIndex = nameIndex;
+    this.chunkSize = chunkSize;
+    this.writeBuffer = writeBuffer.getIfAvailable();
+  }
+
+  @Override
+  public ResponseEntity<?> importPeople(InputStream ndjson) throws IOException {
+    var reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+    var chunk = new ArrayList<ImportLine>(chunkSize);
+    var errors = new ArrayList<ImportErrorDTO>();
+    long imported = 0;
+    long lineNumber = 0;
+    String line;
+
+    while ((line = reader.readLine()) != null) {
+      lineNumber++;
+      if (line.isBlank()) {
+        continue;
+      }
+      try {
+        chunk.add(parseLine(lineNumber, line));
+      } catch (JsonProcessingException e) {
+        errors.add(new ImportErrorDTO(lineNumber, e.getOriginalMessage()));
+      } catch (DateTimeParseException | IllegalArgumentException e) {
+        errors.add(new ImportErrorDTO(lineNumber, e.getMessage()));
+      }
+      if (chunk.size() == chunkSize) {
+        imported += importChunk(chunk, errors);
+        chunk.clear();
+      }
+    }
+    if (!chunk.isEmpty()) {
+      imported += importChunk(chunk, errors);
+    }
+    return new ResponseEntity<>(new ImportReportDTO(imported, errors), null, 200);
+  }
+
+  private int importChunk(List<ImportLine> chunk, List<ImportErrorDTO> errors) {
+    var chunkErrors = new ArrayList<ImportErrorDTO>();
+
+    try {
+      var imported = transactionTemplate.execute(status -> persistChunk(chunk, chunkErrors));
+
+      errors.addAll(chunkErrors);
+      return imported;
+    } catch (DataAccessException | PersistenceException e) {
+      var cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+
+      for (ImportLine importLine : chunk) {
+        errors.add(new ImportErrorDTO(importLine.lineNumber(), "Chunk rolled back: " + cause));
+      }
+      return 0;
+    }
+  }
+
+  private int persistChunk(List<ImportLine> chunk, List<ImportErrorDTO> chunkErrors) {
+    var names = chunk.stream().map(importLine -> importLine.key().name()).toList();
+    var takenKeys = new HashSet<>(peopleRepository.findKeysByNameIn(names));
+    var imported = 0;
+
+    for (ImportLine importLine : chunk) {
+      if (isBuffered(importLine.key()) || !takenKeys.add(importLine.key())) {
+        chunkErrors.add(new ImportErrorDTO(importLine.lineNumber(),
+            "People with name: " + importLine.key().name() + " and Birth Date: "
+                + importLine.birthDate() + "-> Already Exist"));
+        continue;
+      }
+      var peopleEntity = importLine.toEntity();
+
+      entityManager.persist(peopleEntity);
+      nameIndex.put(peopleEntity);
+      imported++;
+    }
+    entityManager.flush();
+    entityManager.clear();
+    return imported;
+  }
+
+  private boolean isBuffered(PeopleKey key) {
+    return writeBuffer != null && writeBuffer.contains(key);
+  }
+
+  private ImportLine parseLine(long lineNumber, String line) throws JsonProcessingException {
+    var peopleDTO = objectMapper.readValue(line, PeopleDTO.class);
+
+    if (peopleDTO.name() == null || peopleDTO.name().isBlank()) {
+      throw new IllegalArgumentException("name is required");
+    }
+    if (peopleDTO.birthDate() == null) {
+      throw new IllegalArgumentException("birthDate is required");
+    }
+
+    var addresses = peopleDTO.addressDTO() == null ? List.<AddressDTO>of() : peopleDTO.addressDTO();
+
+    return new ImportLine(lineNumber,
+        new PeopleKey(peopleDTO.name(), BirthDates.parse(peopleDTO.birthDate())),
+        peopleDTO.birthDate(),
+        addresses);
+  }
+
+  private record ImportLine(
+      long lineNumber,
+      PeopleKey key,
+      String birthDate,
+      List<AddressDTO> addresses
+  ) {
+
+    PeopleEntity toEntity() {
+      var addressEntities = new ArrayList<AddressEntity>(addresses.size());
+
+      for (AddressDTO addressDTO : addresses) {
+        addressEntities.add(AddressEntity.fromDTO(addressDTO));
+      }
+      return new PeopleEntity(key.name(), key.birthDate(), addressEntities);
+    }
+  }
+
+}
@@ -1,147 +1,468 @@
 package dev.anderson.peopleapi.service.implementation;
 
+import dev.anderson.peopleapi.cache.ResponseCache;
+import dev.anderson.peopleapi.domain.BirthDates;
+import dev.anderson.peopleapi.domain.DTO.ErrorDTO;
+import dev.anderson.peopleapi.domain.DTO.KeysetCursor;
 import dev.anderson.peopleapi.domain.DTO.PeopleDTO;
 import dev.anderson.peopleapi.domain.DTO.PeopleInputDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleKeyDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleLookupDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleSummaryDTO;
+import dev.anderson.peopleapi.domain.EntityTags;
+import dev.anderson.peopleapi.domain.PageSizes;
+import dev.anderson.peopleapi.domain.PeopleKey;
+import dev.anderson.peopleapi.domain.PeopleVersion;
 import dev.anderson.peopleapi.domain.entities.PeopleEntity;
 import dev.anderson.peopleapi.exceptions.UserExistsException;
-import dev.anderson.peopleapi.exceptions.UserNotFoundException;
 import dev.anderson.peopleapi.repositories.PeopleRepository;
+import dev.anderson.peopleapi.search.NameIndex;
 import dev.anderson.peopleapi.service.PeopleService;
+import dev.anderson.peopleapi.writebehind.PeopleWriteBuffer;
+import io.micrometer.core.annotation.Timed;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
+@Profile("!reactive")
 public class PeopleServiceImplementation implements PeopleService {
 
   private final PeopleRepository peopleRepository;
 
-  public PeopleServiceImplementation(PeopleRepository peopleRepository) {
+  private final ResponseCache responseCache;
+
+  private final NameIndex nameIndex;
+
+  private final int lookupMaxKeys;
+
+  private final int lookupChunkSize;
+
+  /**
+   * Not read-only, so with routing on the cache is filled from the primary: a replica lagging
+   * behind the write that invalidated a key would otherwise be cached until the entry expires.
+   */
+  private final TransactionTemplate cacheLoadTransaction;
+
+  private final PeopleWriteBuffer writeBuffer;
+
+  public PeopleServiceImplementation(
+      PeopleRepository peopleRepository,
+      PlatformTransactionManager transactionManager,
+      ResponseCache responseCache,
+      NameIndex nameIndex,
+      ObjectProvider<PeopleWriteBuffer> writeBuffer,
+      @Value("${people.lookup.max-keys:1000}") int lookupMaxKeys,
+      @Value("${people.lookup.chunk-size:500}") int lookupChunkSize
+  ) {
     this.peopleRepository = peopleRepository;
+    this.responseCache = responseCache;
+    this.nameIndex = nameIndex;
+    this.lookupMaxKeys = lookupMaxKeys;
+    this.lookupChunkSize = lookupChunkSize;
+    this.cacheLoadTransaction = new TransactionTemplate(transactionManager);
+    this.writeBuffer = writeBuffer.getIfAvailable();
   }
 
   @Override
+  @Timed("people.service")
+  @Transactional(readOnly = true)
   public ResponseEntity<?> listAll(Integer page, Integer size) {
-    var pageRequest = PageRequest.of(page, size, Sort.by("name"));
+    return listAll(page, size, null);
+  }
+
+  @Override
+  @Timed("people.service")
+  @Transactional(readOnly = true)
+  public ResponseEntity<?> listAll(Integer page, Integer size, String ifNoneMatch) {
+    var pageRequest = PageRequest.of(page, size, Sort.by("name", "id"));
+
+    if (ifNoneMatch != null) {
+      var versionPages = peopleRepository.findVersions(pageRequest);
+      var etag = EntityTags.of(versionPages.getContent(), versionPages.getTotalElements());
+
+      if (EntityTags.matches(ifNoneMatch, etag)) {
+        return notModified(etag);
+      }
+    }
+
     var peoplePages = peopleRepository.findAll(pageRequest);
+    var headers = getTotalElements(peoplePages);
+
+    fetchAddresses(peoplePages.getContent());
+    headers.addAll(getETag(EntityTags.of(
+        peoplePages.map(PeopleVersion::of).getContent(), peoplePages.getTotalElements())));
+
+    return new ResponseEntity<>(PeopleDTO.fromPage(peoplePages), headers, 200);
+  }
+
+  @Override
+  @Timed("people.service")
+  @Transactional(readOnly = true)
+  public ResponseEntity<?> listAfter(String after, Integer size) {
+    if (!PageSizes.isValid(size)) {
+      return invalidSize();
+    }
+
+    var pageRequest = PageRequest.ofSize(size + 1);
+    var peopleList = after.isEmpty()
+        ? peopleRepository.findFirstByNameOrder(pageRequest)
+        : findAfter(KeysetCursor.decode(after), pageRequest);
+
+    if (peopleList.size() <= size) {
+      fetchAddresses(peopleList);
+      return new ResponseEntity<>(PeopleDTO.fromList(peopleList), null, 200);
+    }
+
+    var pageContent = peopleList.subList(0, size);
+    var last = pageContent.get(size - 1);
+
+    fetchAddresses(pageContent);
 
     return new ResponseEntity<>(
-        PeopleDTO.fromPage(peoplePages),
-        getTotalElements(peoplePages),
+        PeopleDTO.fromList(pageContent),
+        getNextCursor(new KeysetCursor(last.getName(), last.getId())),
         200);
   }
 
   @Override
+  @Timed("people.service")
   public ResponseEntity<?> findPeople(String name, String birthDate) {
-    var entityDate = parseDate(birthDate);
+    return findPeople(name, birthDate, null);
+  }
 
-    if (!peopleRepository.existsByNameAndBirthDate(name, entityDate)) {
-      throw new UserNotFoundException(
-          "People with name: " + name + " and Birth Date: "
-              + birthDate + "-> Not found"
-      );
+  /**
+   * Runs without a surrounding transaction: cache hits and readers waiting on a concurrent load
+   * of the same key do not hold a connection, only the load itself does.
+   */
+  @Override
+  @Timed("people.service")
+  public ResponseEntity<?> findPeople(String name, String birthDate, String ifNoneMatch) {
+    var key = new PeopleKey(name, BirthDates.parse(birthDate));
+    var cached = responseCache.getPeople(key);
+
+    if (cached != null) {
+      return EntityTags.matches(ifNoneMatch, cached.etag())
+          ? notModified(cached.etag())
+          : new ResponseEntity<>(cached, getETag(cached.etag()), 200);
     }
 
-    var peopleEntity = peopleRepository.findByNameAndBirthDate(name, entityDate);
-    return new ResponseEntity<>(PeopleDTO.of(peopleEntity.get()), null, 200);
+    if (ifNoneMatch != null) {
+      var etag = peopleRepository.findVersionByNameAndBirthDate(key.name(), key.birthDate())
+          .map(EntityTags::of);
+
+      if (etag.isPresent() && EntityTags.matches(ifNoneMatch, etag.get())) {
+        return notModified(etag.get());
+      }
+    }
+
+    var stamp = responseCache.stamp();
+    var loaded = responseCache.loadPeople(key, stamp, () -> cacheLoadTransaction.execute(
+        status -> peopleRepository
+            .findWithAddressesByNameAndBirthDate(key.name(), key.birthDate())
+            .map(peopleEntity -> responseCache.putPeople(
+                key,
+                PeopleDTO.of(peopleEntity),
+                EntityTags.of(PeopleVersion.of(peopleEntity)),
+                stamp))
+            .orElse(null)));
+
+    if (loaded == null) {
+      return notFound(name, birthDate);
+    }
+    return new ResponseEntity<>(loaded, getETag(loaded.etag()), 200);
+  }
+
+  /**
+   * Resolves many keys at once: the distinct keys are looked up in chunks of
+   * {@code people.lookup.chunk-size}, each chunk with one query on the names and birth dates it
+   * holds, and the addresses of every match are loaded with one more query.
+   */
+  @Override
+  @Timed("people.service")
+  @Transactional(readOnly = true)
+  public ResponseEntity<?> lookupPeople(List<PeopleKeyDTO> peopleKeys) {
+    if (peopleKeys.size() > lookupMaxKeys) {
+      return new ResponseEntity<>(
+          ErrorDTO.of("Lookup accepts at most " + lookupMaxKeys + " keys"), null, 400);
+    }
+
+    var requested = new LinkedHashMap<PeopleKey, PeopleKeyDTO>();
+
+    for (int index = 0; index < peopleKeys.size(); index++) {
+      var peopleKey = peopleKeys.get(index);
+
+      if (peopleKey == null || peopleKey.name() == null || peopleKey.birthDate() == null) {
+        return new ResponseEntity<>(
+            ErrorDTO.of("Key " + index + ": name and birthDate are required"), null, 400);
+      }
+      try {
+        requested.putIfAbsent(
+            new PeopleKey(peopleKey.name(), BirthDates.parse(peopleKey.birthDate())), peopleKey);
+      } catch (DateTimeParseException e) {
+        return new ResponseEntity<>(ErrorDTO.of("Key " + index + ": " + e.getMessage()), null, 400);
+      }
+    }
+
+    var keys = List.copyOf(requested.keySet());
+    var matches = new HashMap<PeopleKey, PeopleEntity>();
+
+    for (int from = 0; from < keys.size(); from += lookupChunkSize) {
+      var chunk = keys.subList(from, Math.min(from + lookupChunkSize, keys.size()));
+      var names = chunk.stream().map(PeopleKey::name).distinct().toList();
+      var birthDates = chunk.stream().map(PeopleKey::birthDate).distinct().toList();
+      var candidates = peopleRepository.findByNameInAndBirthDateIn(names, birthDates);
+
+      for (PeopleEntity peopleEntity : candidates) {
+        if (requested.containsKey(keyOf(peopleEntity))) {
+          matches.put(keyOf(peopleEntity), peopleEntity);
+        }
+      }
+    }
+
+    fetchAddresses(List.copyOf(matches.values()));
+
+    var found = new ArrayList<PeopleDTO>(matches.size());
+    var missing = new ArrayList<PeopleKeyDTO>();
+
+    requested.forEach((key, peopleKey) -> {
+      var peopleEntity = matches.get(key);
+
+      if (peopleEntity == null) {
+        missing.add(peopleKey);
+      } else {
+        found.add(PeopleDTO.of(peopleEntity));
+      }
+    });
+    return new ResponseEntity<>(new PeopleLookupDTO(found, missing), null, 200);
   }
 
   @Override
+  @Timed("people.service")
+  public ResponseEntity<?> searchPeople(String prefix, String after, Integer size) {
+    if (!PageSizes.isValid(size)) {
+      return invalidSize();
+    }
+
+    var cursor = after.isEmpty() ? null : KeysetCursor.decode(after);
+    var matches = nameIndex.search(prefix, cursor, size + 1);
+
+    if (matches.size() <= size) {
+      return new ResponseEntity<>(PeopleSummaryDTO.fromList(matches), null, 200);
+    }
+
+    var pageContent = matches.subList(0, size);
+    var last = pageContent.get(size - 1);
+
+    return new ResponseEntity<>(
+        PeopleSummaryDTO.fromList(pageContent),
+        getNextCursor(new KeysetCursor(last.key(), last.id())),
+        200);
+  }
+
+  @Override
+  @Timed("people.service")
   public ResponseEntity<?> makePeople(String name, String birthDate) {
-    var entityDate = parseDate(birthDate);
+    var entityDate = BirthDates.parse(birthDate);
 
-    if (peopleRepository.existsByNameAndBirthDate(name, entityDate)) {
-      throw new UserExistsException(
-          "People with name: " + name + " and Birth Date: " + birthDate + "-> Already Exist"
-      );
-    } else {
-      peopleRepository.save(PeopleEntity.of(name, entityDate));
+    if (writeBuffer != null) {
+      return switch (writeBuffer.offer(new PeopleKey(name, entityDate))) {
+        case ACCEPTED -> new ResponseEntity<>(null, null, 202);
+        case DUPLICATE -> alreadyExists(name, birthDate);
+        case FULL -> new ResponseEntity<>(
+            ErrorDTO.of("Too many people waiting to be saved, retry later"),
+            getRetryAfter(writeBuffer.flushInterval()),
+            503);
+      };
+    }
+
+    try {
+      nameIndex.put(peopleRepository.saveAndFlush(PeopleEntity.of(name, entityDate)));
+      responseCache.invalidate(new PeopleKey(name, entityDate));
+    } catch (DataIntegrityViolationException e) {
+      return alreadyExists(name, birthDate);
     }
     return new ResponseEntity<>(null, null, 201);
   }
 
   @Override
+  @Timed("people.service")
+  @Transactional
   public ResponseEntity<?> replacePeople(PeopleInputDTO peopleInputDTO) {
-    var entityDate = parseDate(peopleInputDTO.birthDate());
+    var oldDate = BirthDates.parse(peopleInputDTO.birthDate());
+    var newDate = BirthDates.parse(peopleInputDTO.newBirthDate());
+    var matches = peopleRepository.findByEitherKey(
+        peopleInputDTO.name(), oldDate, peopleInputDTO.newName(), newDate);
 
-    if (dtoExists(peopleInputDTO)) {
-      var peopleEntity = peopleRepository.findByNameAndBirthDate(peopleInputDTO.name(), entityDate);
+    var peopleEntity = matches.stream()
+        .filter(entity -> hasKey(entity, peopleInputDTO.name(), oldDate))
+        .findFirst();
 
-      peopleEntity.get().updateNameAndDate(peopleInputDTO);
-      peopleRepository.save(peopleEntity.get());
+    if (peopleEntity.isEmpty()) {
+      return notFound(peopleInputDTO.name(), peopleInputDTO.birthDate());
     }
+    if (isBuffered(new PeopleKey(peopleInputDTO.newName(), newDate))
+        || matches.stream().anyMatch(entity -> hasKey(entity, peopleInputDTO.newName(), newDate))) {
+      return alreadyExists(peopleInputDTO.newName(), peopleInputDTO.newBirthDate());
+    }
+
+    applyUpdate(peopleEntity.get(), peopleInputDTO);
     return new ResponseEntity<>(null, null, 200);
   }
 
   @Override
+  @Timed("people.service")
+  @Transactional
   public ResponseEntity<?> updatePeople(PeopleInputDTO peopleInputDTO) {
-    var entityDate = parseDate(peopleInputDTO.birthDate());
+    var oldDate = BirthDates.parse(peopleInputDTO.birthDate());
+    var newName = peopleInputDTO.newName().isEmpty()
+        ? peopleInputDTO.name()
+        : peopleInputDTO.newName();
+    var newBirthDate = peopleInputDTO.newBirthDate().isEmpty()
+        ? peopleInputDTO.birthDate()
+        : peopleInputDTO.newBirthDate();
+    var newDate = BirthDates.parse(newBirthDate);
+    var matches = peopleRepository.findByEitherKey(
+        peopleInputDTO.name(), oldDate, newName, newDate);
 
-    if (!peopleRepository.existsByNameAndBirthDate(peopleInputDTO.name(), entityDate)) {
-      throw new UserNotFoundException(
-          "People with name: " + peopleInputDTO.name() + " and Birth Date: "
-              + peopleInputDTO.birthDate() + "-> Not found"
-      );
-    }
+    var peopleEntity = matches.stream()
+        .filter(entity -> hasKey(entity, peopleInputDTO.name(), oldDate))
+        .findFirst();
 
-    var peopleEntity = peopleRepository.findByNameAndBirthDate(peopleInputDTO.name(), entityDate);
+    if (peopleEntity.isEmpty()) {
+      return notFound(peopleInputDTO.name(), peopleInputDTO.birthDate());
+    }
+    if (isBuffered(new PeopleKey(newName, newDate)) || matches.stream().anyMatch(
+        entity -> entity != peopleEntity.get() && hasKey(entity, newName, newDate))) {
+      return alreadyExists(newName, newBirthDate);
+    }
 
-    peopleEntity.get().updateNameAndDate(peopleInputDTO);
-    peopleRepository.save(peopleEntity.get());
+    applyUpdate(peopleEntity.get(), peopleInputDTO);
     return new ResponseEntity<>(null, null, 200);
   }
 
   @Override
+  @Timed("people.service")
   @Transactional
   public ResponseEntity<?> deletePeople(String name, String birthDate) {
-    var entityDate = parseDate(birthDate);
+    var peopleEntity = peopleRepository.findByNameAndBirthDate(name, BirthDates.parse(birthDate));
 
-    if (!peopleRepository.existsByNameAndBirthDate(name, entityDate)) {
-      throw new UserNotFoundException(
-          "People with name: " + name + " and Birth Date: " + birthDate + "-> Not found"
-      );
+    if (peopleEntity.isEmpty()) {
+      return notFound(name, birthDate);
     }
 
-    peopleRepository.deleteByNameAndBirthDate(name, entityDate);
+    peopleRepository.delete(peopleEntity.get());
+    responseCache.invalidate(keyOf(peopleEntity.get()));
+    nameIndex.remove(peopleEntity.get());
     return new ResponseEntity<>(null, null, 200);
   }
 
-  private boolean dtoExists(PeopleInputDTO peopleInputDTO) {
-    var oldDate = parseDate(peopleInputDTO.birthDate());
-    var newDate = parseDate(peopleInputDTO.newBirthDate());
+  private ResponseEntity<?> notModified(String etag) {
+    return new ResponseEntity<>(null, getETag(etag), 304);
+  }
 
-    if (!peopleRepository.existsByNameAndBirthDate(peopleInputDTO.name(), oldDate)) {
-      throw new UserNotFoundException(
-          "People with name: " + peopleInputDTO.name() + " and Birth Date: "
-              + peopleInputDTO.birthDate() + "-> Not found"
-      );
-    } else if (peopleRepository.existsByNameAndBirthDate(peopleInputDTO.newName(), newDate)) {
+  private ResponseEntity<ErrorDTO> notFound(String name, String birthDate) {
+    return new ResponseEntity<>(ErrorDTO.notFound(name, birthDate), null, 404);
+  }
+
+  private ResponseEntity<ErrorDTO> invalidSize() {
+    return new ResponseEntity<>(ErrorDTO.invalidSize(PageSizes.MAX_SIZE), null, 400);
+  }
+
+  private ResponseEntity<ErrorDTO> alreadyExists(String name, String birthDate) {
+    return new ResponseEntity<>(ErrorDTO.alreadyExists(name, birthDate), null, 400);
+  }
+
+  /**
+   * Initializes the addresses of an already loaded page with a single join-fetch query, so mapping
+   * the page to DTOs does not issue one address query per person.
+   */
+  private void fetchAddresses(List<PeopleEntity> peopleList) {
+    if (!peopleList.isEmpty()) {
+      peopleRepository.findWithAddressesByIdIn(
+          peopleList.stream().map(PeopleEntity::getId).toList());
+    }
+  }
+
+  private void applyUpdate(PeopleEntity peopleEntity, PeopleInputDTO peopleInputDTO) {
+    var oldKey = keyOf(peopleEntity);
+
+    peopleEntity.updateNameAndDate(peopleInputDTO);
+    try {
+      peopleRepository.flush();
+      responseCache.invalidate(oldKey, keyOf(peopleEntity));
+      nameIndex.put(peopleEntity);
+    } catch (DataIntegrityViolationException e) {
       throw new UserExistsException(
           "People with name: " + peopleInputDTO.newName() + " and Birth Date: "
               + peopleInputDTO.newBirthDate() + "-> Already Exist"
       );
-    } else {
-      return true;
     }
   }
 
-  private HttpHeaders getTotalElements(Page<PeopleEntity> peopleEntity) {
+  private PeopleKey keyOf(PeopleEntity peopleEntity) {
+    return new PeopleKey(peopleEntity.getName(), peopleEntity.getBirthDate());
+  }
+
+  private boolean isBuffered(PeopleKey key) {
+    return writeBuffer != null && writeBuffer.contains(key);
+  }
+
+  private boolean hasKey(PeopleEntity peopleEntity, String name, LocalDate birthDate) {
+    return peopleEntity.getName().equals(name) && peopleEntity.getBirthDate().equals(birthDate);
+  }
+
+  private List<PeopleEntity> findAfter(KeysetCursor cursor, Pageable pageable) {
+    return peopleRepository.findAfterByNameOrder(cursor.key(), cursor.id(), pageable);
+  }
+
+  private HttpHeaders getNextCursor(KeysetCursor cursor) {
     HttpHeaders headers = new HttpHeaders();
 
-    headers.add("Access-Control-Expose-Headers", "X-Total-Count");
-    headers.add("x-total-count", String.valueOf(peopleEntity.getTotalElements()));
+    headers.add("Access-Control-Expose-Headers", "X-Next-Cursor");
+    headers.add("x-next-cursor", cursor.encode());
     return headers;
   }
 
-  private LocalDate parseDate(String date) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d/MM/yyyy");
+  private HttpHeaders getRetryAfter(Duration delay) {
+    HttpHeaders headers = new HttpHeaders();
 
-    return LocalDate.parse(date, formatter);
+    headers.add("Access-Control-Expose-Headers", "Retry-After");
+    headers.add(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, delay.toSeconds())));
+    return headers;
+  }
+
+  private HttpHeaders getETag(String etag) {
+    HttpHeaders headers = new HttpHeaders();
+
+    headers.add("Access-Control-Expose-Headers", "ETag");
+    headers.setETag(etag);
+    return headers;
+  }
+
+  private HttpHeaders getTotalElements(Page<PeopleEntity> peopleEntity) {
+    HttpHeaders headers = new HttpHeaders();
+
+    headers.add("Access-Control-Expose-Headers", "X-Total-Count");
+    headers.add("x-total-count", String.valueOf(peopleEntity.getTotalElements()));
+    return headers;
   }
 }
@@ -0,0 +1,171 @@
+package dev.anderson.peopleapi.service.implementation;
+
+import dev.anderson.peopleapi.domain.BirthDates;
+import dev.anderson.peopleapi.domain.DTO.AddressDTO;
+import dev.anderson.peopleapi.domain.DTO.ErrorDTO;
+import dev.anderson.peopleapi.domain.EntityTags;
+import dev.anderson.peopleapi.domain.PeopleVersion;
+import dev.anderson.peopleapi.domain.entities.AddressRow;
+import dev.anderson.peopleapi.domain.entities.PeopleRow;
+import dev.anderson.peopleapi.repositories.PooledIds;
+import dev.anderson.peopleapi.repositories.ReactiveAddressRepository;
+import dev.anderson.peopleapi.repositories.ReactivePeopleRepository;
+import dev.anderson.peopleapi.service.ReactiveAddressService;
+import java.net.URI;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link AddressServiceImplementation} for the {@code reactive}
+ * profile. Address writes bump the owning people's version in the same transaction.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveAddressServiceImplementation implements ReactiveAddressService {
+
+  private final ReactivePeopleRepository peopleRepository;
+
+  private final ReactiveAddressRepository addressRepository;
+
+  private final R2dbcEntityTemplate entityTemplate;
+
+  private final TransactionalOperator transactionalOperator;
+
+  private final PooledIds addressIds;
+
+  public ReactiveAddressServiceImplementation(
+      ReactivePeopleRepository peopleRepository,
+      ReactiveAddressRepository addressRepository,
+      R2dbcEntityTemplate entityTemplate,
+      ReactiveTransactionManager transactionManager
+  ) {
+    this.peopleRepository = peopleRepository;
+    this.addressRepository = addressRepository;
+    this.entityTemplate = entityTemplate;
+    this.transactionalOperator = TransactionalOperator.create(transactionManager);
+    this.addressIds = new PooledIds(addressRepository::nextSequenceValue, 50);
+  }
+
+  @Override
+  public Mono<ResponseEntity<?>> listAll() {
+    return Mono.just(
+        ResponseEntity.ok(addressRepository.findAll(Sort.by("id")).map(AddressDTO::of)));
+  }
+
+  @Override
+  public Mono<ResponseEntity<?>> findAddress(String name, String birthDate, String ifNoneMatch) {
+    return findPeople(name, birthDate)
+        .<ResponseEntity<?>>flatMap(peopleRow -> {
+          var etag = EntityTags.of(PeopleVersion.of(peopleRow));
+
+          if (EntityTags.matches(ifNoneMatch, etag)) {
+            return Mono.just(notModified(etag));
+          }
+          return addressRepository.findByPeopleIdOrderById(peopleRow.getId())
+              .map(AddressDTO::of)
+              .collectList()
+              .map(addressList -> ok(addressList, getETag(etag)));
+        })
+        .defaultIfEmpty(notFound(name, birthDate));
+  }
+
+  @Override
+  public Mono<ResponseEntity<?>> findAddress(Long id) {
+    return addressRepository.findById(id)
+        .<ResponseEntity<?>>map(addressRow -> ok(AddressDTO.of(addressRow), null))
+        .defaultIfEmpty(addressNotFound("id: " + id));
+  }
+
+  @Override
+  public Mono<ResponseEntity<?>> makeAddress(
+      String name, String birthDate, AddressDTO addressDTO) {
+    return findPeople(name, birthDate)
+        .<ResponseEntity<?>>flatMap(peopleRow -> addressIds.nextId()
+            .flatMap(id -> entityTemplate.insert(new AddressRow(id, peopleRow.getId(), addressDTO)))
+            .flatMap(addressRow -> peopleRepository.incrementVersion(peopleRow.getId())
+                .thenReturn(created(addressRow))))
+        .defaultIfEmpty(notFound(name, birthDate))
+        .as(transactionalOperator::transactional);
+  }
+
+  @Override
+  public Mono<ResponseEntity<?>> updateAddress(
+      String name, String birthDate, Long id, AddressDTO addressDTO) {
+    return findPeople(name, birthDate)
+        .<ResponseEntity<?>>flatMap(peopleRow -> addressRepository.updateById(peopleRow.getId(), id,
+                addressDTO.publicPlace(), addressDTO.number(), addressDTO.city(), addressDTO.cep())
+            .flatMap(updated -> updated == 0
+                ? Mono.just(addressNotFound("id: " + id))
+                : peopleRepository.incrementVersion(peopleRow.getId()).thenReturn(ok(null, null))))
+        .defaultIfEmpty(notFound(name, birthDate))
+        .as(transactionalOperator::transactional);
+  }
+
+  @Override
+  public Mono<ResponseEntity<?>> deleteAddress(String name, String birthDate, Long id) {
+    return findPeople(name, birthDate)
+        .<ResponseEntity<?>>flatMap(peopleRow -> addressRepository.deleteById(peopleRow.getId(), id)
+            .flatMap(deleted -> deleted == 0
+                ? Mono.just(addressNotFound("id: " + id))
+                : peopleRepository.incrementVersion(peopleRow.getId()).thenReturn(ok(null, null))))
+        .defaultIfEmpty(notFound(name, birthDate))
+        .as(transactionalOperator::transactional);
+  }
+
+  @Override
+  public Mono<ResponseEntity<?>> deleteAddress(
+      String name, String birthDate, AddressDTO addressDTO) {
+    return findPeople(name, birthDate)
+        .<ResponseEntity<?>>flatMap(peopleRow -> addressRepository.deleteByTuple(peopleRow.getId(),
+                addressDTO.publicPlace(), addressDTO.number(), addressDTO.cep())
+            .flatMap(deleted -> deleted == 0
+                ? Mono.just(addressNotFound("public place: " + addressDTO.publicPlace()
+                    + ", number: " + addressDTO.number() + " and cep: " + addressDTO.cep()))
+                : peopleRepository.incrementVersion(peopleRow.getId()).thenReturn(ok(null, null))))
+        .defaultIfEmpty(notFound(name, birthDate))
+        .as(transactionalOperator::transactional);
+  }
+
+  private Mono<PeopleRow> findPeople(String name, String birthDate) {
+    return peopleRepository.findByNameAndBirthDate(name, BirthDates.parse(birthDate));
+  }
+
+  private ResponseEntity<?> ok(Object body, HttpHeaders headers) {
+    return new ResponseEntity<>(body, headers, 200);
+  }
+
+  private ResponseEntity<?> created(AddressRow addressRow) {
+    HttpHeaders headers = new HttpHeaders();
+
+    headers.setLocation(URI.create("/api/v1/address/" + addressRow.getId()));
+    return new ResponseEntity<>(AddressDTO.of(addressRow), headers, 201);
+  }
+
+  private ResponseEntity<?> notModified(String etag) {
+    return new ResponseEntity<>(null, getETag(etag), 304);
+  }
+
+  private ResponseEntity<?> notFound(String name, String birthDate) {
+    return new ResponseEntity<>(ErrorDTO.notFound(name, birthDate), null, 404);
+  }
+
+  private ResponseEntity<?> addressNotFound(String address) {
+    return new ResponseEntity<>(ErrorDTO.of("Address with " + address + "-> Not found"), null, 404);
+  }
+
+  private HttpHeaders getETag(String etag) {
+    HttpHeaders headers = new HttpHeaders();
+
+    headers.add("Access-Control-Expose-Headers", "ETag");
+    headers.setETag(etag);
+    return headers;
+  }
+
+}
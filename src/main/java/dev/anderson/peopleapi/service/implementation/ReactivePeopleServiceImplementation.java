@@ -0,0 +1,252 @@
+package dev.anderson.peopleapi.service.implementation;
+
+import dev.anderson.peopleapi.domain.BirthDates;
+import dev.anderson.peopleapi.domain.DTO.AddressDTO;
+import dev.anderson.peopleapi.domain.DTO.ErrorDTO;
+import dev.anderson.peopleapi.domain.DTO.KeysetCursor;
+import dev.anderson.peopleapi.domain.DTO.PeopleDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleInputDTO;
+import dev.anderson.peopleapi.domain.EntityTags;
+import dev.anderson.peopleapi.domain.PageSizes;
+import dev.anderson.peopleapi.domain.PeopleVersion;
+import dev.anderson.peopleapi.domain.entities.AddressRow;
+import dev.anderson.peopleapi.domain.entities.PeopleRow;
+import dev.anderson.peopleapi.repositories.PooledIds;
+import dev.anderson.peopleapi.repositories.ReactiveAddressRepository;
+import dev.anderson.peopleapi.repositories.ReactivePeopleRepository;
+import dev.anderson.peopleapi.service.ReactivePeopleService;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link PeopleServiceImplementation} for the {@code reactive}
+ * profile, with the same responses. Reads run outside a transaction so the page and its count are
+ * fetched on two connections at once; writes run in an R2DBC transaction.
+ */
+@Service
+@Profile("reactive")
+public class ReactivePeopleServiceImplementation implements ReactivePeopleService {
+
+  private final ReactivePeopleRepository peopleRepository;
+
+  private final ReactiveAddressRepository addressRepository;
+
+  private final R2dbcEntityTemplate entityTemplate;
+
+  private final TransactionalOperator transactionalOperator;
+
+  private final PooledIds peopleIds;
+
+  public ReactivePeopleServiceImplementation(
+      ReactivePeopleRepository peopleRepository,
+      ReactiveAddressRepository addressRepository,
+      R2dbcEntityTemplate entityTemplate,
+      ReactiveTransactionManager transactionManager
+  ) {
+    this.peopleRepository = peopleRepository;
+    this.addressRepository = addressRepository;
+    this.entityTemplate = entityTemplate;
+    this.transactionalOperator = TransactionalOperator.create(transactionManager);
+    this.peopleIds = new PooledIds(peopleRepository::nextSequenceValue, 50);
+  }
+
+  @Override
+  public Mono<ResponseEntity<?>> listAll(Integer page, Integer size, String ifNoneMatch) {
+    var pageRequest = PageRequest.of(page, size, Sort.by("name", "id"));
+
+    return Mono.zip(peopleRepository.findAllBy(pageRequest).collectList(), peopleRepository.count())
+        .flatMap(pageAndTotal -> {
+          var peopleRows = pageAndTotal.getT1();
+          var etag = EntityTags.of(
+              peopleRows.stream().map(PeopleVersion::of).toList(), pageAndTotal.getT2());
+
+          if (EntityTags.matches(ifNoneMatch, etag)) {
+            return Mono.just(notModified(etag));
+          }
+
+          var headers = getTotalElements(pageAndTotal.getT2());
+
+          headers.addAll(getETag(etag));
+          return withAddresses(peopleRows).map(peopleList -> ok(peopleList, headers));
+        });
+  }
+
+  @Override
+  public Mono<ResponseEntity<?>> listAfter(String after, Integer size) {
+    if (!PageSizes.isValid(size)) {
+      return Mono.just(new ResponseEntity<>(
+          ErrorDTO.invalidSize(PageSizes.MAX_SIZE), null, 400));
+    }
+
+    var peopleRows = after.isEmpty()
+        ? peopleRepository.findFirstByNameOrder(size + 1)
+        : findAfter(KeysetCursor.decode(after), size + 1);
+
+    return peopleRows.collectList().flatMap(peopleList -> {
+      if (peopleList.size() <= size) {
+        return withAddresses(peopleList).map(pageContent -> ok(pageContent, null));
+      }
+
+      var last = peopleList.get(size - 1);
+
+      return withAddresses(peopleList.subList(0, size)).map(pageContent -> ok(pageContent,
+          getNextCursor(new KeysetCursor(last.getName(), last.getId()))));
+    });
+  }
+
+  @Override
+  public Mono<ResponseEntity<?>> findPeople(String name, String birthDate, String ifNoneMatch) {
+    return peopleRepository.findByNameAndBirthDate(name, BirthDates.parse(birthDate))
+        .<ResponseEntity<?>>flatMap(peopleRow -> {
+          var etag = EntityTags.of(PeopleVersion.of(peopleRow));
+
+          if (EntityTags.matches(ifNoneMatch, etag)) {
+            return Mono.just(notModified(etag));
+          }
+          return withAddresses(List.of(peopleRow))
+              .map(peopleList -> ok(peopleList.get(0), getETag(etag)));
+        })
+        .defaultIfEmpty(notFound(name, birthDate));
+  }
+
+  @Override
+  public Mono<ResponseEntity<?>> makePeople(String name, String birthDate) {
+    var entityDate = BirthDates.parse(birthDate);
+
+    return peopleIds.nextId()
+        .flatMap(id -> entityTemplate.insert(new PeopleRow(id, name, entityDate)))
+        .<ResponseEntity<?>>map(peopleRow -> status(201))
+        .onErrorResume(DataIntegrityViolationException.class,
+            e -> Mono.just(alreadyExists(name, birthDate)));
+  }
+
+  @Override
+  public Mono<ResponseEntity<?>> replacePeople(PeopleInputDTO peopleInputDTO) {
+    return update(peopleInputDTO, peopleInputDTO.newName().isEmpty()
+        ? peopleInputDTO.name()
+        : peopleInputDTO.newName(), peopleInputDTO.newBirthDate(), true);
+  }
+
+  @Override
+  public Mono<ResponseEntity<?>> updatePeople(PeopleInputDTO peopleInputDTO) {
+    var newName = peopleInputDTO.newName().isEmpty()
+        ? peopleInputDTO.name()
+        : peopleInputDTO.newName();
+    var newBirthDate = peopleInputDTO.newBirthDate().isEmpty()
+        ? peopleInputDTO.birthDate()
+        : peopleInputDTO.newBirthDate();
+
+    return update(peopleInputDTO, newName, newBirthDate, false);
+  }
+
+  @Override
+  public Mono<ResponseEntity<?>> deletePeople(String name, String birthDate) {
+    return peopleRepository.findByNameAndBirthDate(name, BirthDates.parse(birthDate))
+        .<ResponseEntity<?>>flatMap(peopleRow -> addressRepository.deleteByPeopleId(peopleRow.getId())
+            .then(peopleRepository.deleteById(peopleRow.getId()))
+            .thenReturn(status(200)))
+        .defaultIfEmpty(notFound(name, birthDate))
+        .as(transactionalOperator::transactional);
+  }
+
+  /**
+   * A replace must move the people to another key, as in the servlet stack: an unchanged key is
+   * answered as already existing, while an update keeping its key succeeds.
+   */
+  private Mono<ResponseEntity<?>> update(
+      PeopleInputDTO peopleInputDTO, String newName, String newBirthDate, boolean replace) {
+    var oldDate = BirthDates.parse(peopleInputDTO.birthDate());
+    var newDate = BirthDates.parse(newBirthDate);
+    var keyKept = newName.equals(peopleInputDTO.name()) && newDate.equals(oldDate);
+    var newKeyTaken = keyKept && !replace
+        ? Mono.just(false)
+        : peopleRepository.findByNameAndBirthDate(newName, newDate).hasElement();
+
+    return peopleRepository.findByNameAndBirthDate(peopleInputDTO.name(), oldDate)
+        .<ResponseEntity<?>>flatMap(peopleRow -> newKeyTaken.flatMap(taken -> taken
+            ? Mono.just(alreadyExists(newName, newBirthDate))
+            : peopleRepository.updateNameAndDate(peopleRow.getId(), newName, newDate)
+                .thenReturn(status(200))))
+        .defaultIfEmpty(notFound(peopleInputDTO.name(), peopleInputDTO.birthDate()))
+        .as(transactionalOperator::transactional)
+        .onErrorResume(DataIntegrityViolationException.class,
+            e -> Mono.just(alreadyExists(newName, newBirthDate)));
+  }
+
+  /**
+   * Loads the addresses of every people of a page with a single query and maps the page to DTOs
+   * in its original order.
+   */
+  private Mono<List<PeopleDTO>> withAddresses(List<PeopleRow> peopleRows) {
+    if (peopleRows.isEmpty()) {
+      return Mono.just(List.of());
+    }
+    return addressRepository
+        .findByPeopleIdInOrderById(peopleRows.stream().map(PeopleRow::getId).toList())
+        .collectMultimap(AddressRow::getPeopleId, AddressDTO::of)
+        .map(addresses -> peopleRows.stream()
+            .map(peopleRow -> PeopleDTO.of(peopleRow,
+                List.copyOf(addresses.getOrDefault(peopleRow.getId(), List.of()))))
+            .toList());
+  }
+
+  private Flux<PeopleRow> findAfter(KeysetCursor cursor, int limit) {
+    return peopleRepository.findAfterByNameOrder(cursor.key(), cursor.id(), limit);
+  }
+
+  private ResponseEntity<?> ok(Object body, HttpHeaders headers) {
+    return new ResponseEntity<>(body, headers, 200);
+  }
+
+  private ResponseEntity<?> status(int status) {
+    return new ResponseEntity<>(null, null, status);
+  }
+
+  private ResponseEntity<?> notModified(String etag) {
+    return new ResponseEntity<>(null, getETag(etag), 304);
+  }
+
+  private ResponseEntity<?> notFound(String name, String birthDate) {
+    return new ResponseEntity<>(ErrorDTO.notFound(name, birthDate), null, 404);
+  }
+
+  private ResponseEntity<?> alreadyExists(String name, String birthDate) {
+    return new ResponseEntity<>(ErrorDTO.alreadyExists(name, birthDate), null, 400);
+  }
+
+  private HttpHeaders getETag(String etag) {
+    HttpHeaders headers = new HttpHeaders();
+
+    headers.add("Access-Control-Expose-Headers", "ETag");
+    headers.setETag(etag);
+    return headers;
+  }
+
+  private HttpHeaders getNextCursor(KeysetCursor cursor) {
+    HttpHeaders headers = new HttpHeaders();
+
+    headers.add("Access-Control-Expose-Headers", "X-Next-Cursor");
+    headers.add("x-next-cursor", cursor.encode());
+    return headers;
+  }
+
+  private HttpHeaders getTotalElements(long totalElements) {
+    HttpHeaders headers = new HttpHeaders();
+
+    headers.add("Access-Control-Expose-Headers", "X-Total-Count");
+    headers.add("x-total-count", String.valueOf(totalElements));
+    return headers;
+  }
+
+}
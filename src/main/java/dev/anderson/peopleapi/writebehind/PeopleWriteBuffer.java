@@ -0,0 +1,325 @@
+package dev.anderson.peopleapi.writebehind;
+
+import dev.anderson.peopleapi.cache.ResponseCache;
+import dev.anderson.peopleapi.domain.PeopleKey;
+import dev.anderson.peopleapi.domain.entities.PeopleEntity;
+import dev.anderson.peopleapi.search.NameIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind intake for new people. {@link #offer} accepts a key once neither the
+ * {@link NameIndex} nor the keys still buffered hold it, and a single flusher thread inserts the
+ * buffered people in JDBC batches of up to {@code batchSize}, at the latest {@code flushInterval}
+ * after it picked up the first of them. That interval is the durability window: accepted people
+ * not flushed yet are lost if the process dies.
+ *
+ * <p>When {@code capacity} people are accepted and not flushed yet, {@link #offer} waits up to
+ * {@code offerTimeout} for one of them to be flushed and then refuses the key. A batch hitting the
+ * unique key, because another instance created the same people meanwhile, is retried one people
+ * at a time and the duplicates are dropped. Any other failure keeps the batch and retries it every
+ * {@code flushInterval}, so the buffer fills up and callers are refused while the database is
+ * unavailable. {@link #stop} refuses new keys and flushes what is buffered.
+ */
+public class PeopleWriteBuffer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PeopleWriteBuffer.class);
+
+  private final BlockingQueue<PeopleKey> buffer = new LinkedBlockingQueue<>();
+
+  private final Semaphore room;
+
+  private final Set<PeopleKey> pending = ConcurrentHashMap.newKeySet();
+
+  private final List<PeopleKey> batch = new ArrayList<>();
+
+  private final ReadWriteLock accepting = new ReentrantReadWriteLock();
+
+  private final EntityManager entityManager;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final NameIndex nameIndex;
+
+  private final ResponseCache responseCache;
+
+  private final int batchSize;
+
+  private final Duration flushInterval;
+
+  private final Duration offerTimeout;
+
+  private final Counter flushed;
+
+  private final Counter rejected;
+
+  private final Counter dropped;
+
+  private final Timer flushTimer;
+
+  private boolean stopped;
+
+  private volatile boolean running;
+
+  private Thread flusher;
+
+  public PeopleWriteBuffer(
+      EntityManager entityManager,
+      PlatformTransactionManager transactionManager,
+      NameIndex nameIndex,
+      ResponseCache responseCache,
+      MeterRegistry meterRegistry,
+      int capacity,
+      int batchSize,
+      Duration flushInterval,
+      Duration offerTimeout
+  ) {
+    this.room = new Semaphore(capacity);
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.nameIndex = nameIndex;
+    this.responseCache = responseCache;
+    this.batchSize = batchSize;
+    this.flushInterval = flushInterval;
+    this.offerTimeout = offerTimeout;
+    this.flushed = meterRegistry.counter("people.writebehind.flushed");
+    this.rejected = meterRegistry.counter("people.writebehind.rejected");
+    this.dropped = meterRegistry.counter("people.writebehind.dropped");
+    this.flushTimer = meterRegistry.timer("people.writebehind.flush");
+  }
+
+  public Offer offer(PeopleKey key) {
+    accepting.readLock().lock();
+    try {
+      if (stopped) {
+        rejected.increment();
+        return Offer.FULL;
+      }
+      if (!pending.add(key)) {
+        return Offer.DUPLICATE;
+      }
+      if (nameIndex.contains(key.name(), key.birthDate())) {
+        pending.remove(key);
+        return Offer.DUPLICATE;
+      }
+      if (!room.tryAcquire(offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+        pending.remove(key);
+        rejected.increment();
+        return Offer.FULL;
+      }
+      buffer.add(key);
+      return Offer.ACCEPTED;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      pending.remove(key);
+      return Offer.FULL;
+    } finally {
+      accepting.readLock().unlock();
+    }
+  }
+
+  /**
+   * Whether {@code key} was accepted and not flushed yet. The synchronous writes check it so they
+   * do not take a key the flusher would then drop as created elsewhere.
+   */
+  public boolean contains(PeopleKey key) {
+    return pending.contains(key);
+  }
+
+  public int buffered() {
+    return pending.size();
+  }
+
+  public Duration flushInterval() {
+    return flushInterval;
+  }
+
+  public void start() {
+    running = true;
+    flusher = new Thread(this::run, "people-write-behind");
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  public void stop() {
+    accepting.writeLock().lock();
+    try {
+      if (stopped || flusher == null) {
+        return;
+      }
+      stopped = true;
+    } finally {
+      accepting.writeLock().unlock();
+    }
+
+    running = false;
+    flusher.interrupt();
+    try {
+      flusher.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    buffer.drainTo(batch);
+    while (!batch.isEmpty()) {
+      var chunk = new ArrayList<>(batch.subList(0, Math.min(batchSize, batch.size())));
+
+      if (!flush(chunk)) {
+        LOGGER.error("Lost {} buffered people on shutdown", batch.size());
+        return;
+      }
+      batch.subList(0, Math.min(batchSize, batch.size())).clear();
+    }
+  }
+
+  private void run() {
+    try {
+      while (running) {
+        collect();
+        while (!flush(batch) && running) {
+          Thread.sleep(flushInterval.toMillis());
+        }
+      }
+    } catch (InterruptedException e) {
+      // stopping, stop() flushes what is left in the batch and the buffer
+    }
+  }
+
+  private void collect() throws InterruptedException {
+    batch.add(buffer.take());
+
+    var deadline = System.nanoTime() + flushInterval.toNanos();
+
+    while (batch.size() < batchSize) {
+      buffer.drainTo(batch, batchSize - batch.size());
+
+      var remaining = deadline - System.nanoTime();
+
+      if (batch.size() >= batchSize || remaining <= 0) {
+        return;
+      }
+
+      var next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+    }
+  }
+
+  /**
+   * Writes {@code keys} and removes the written and dropped ones from it. Returns false, leaving
+   * the rest in place, when the database failed for another reason than a duplicate.
+   */
+  private boolean flush(List<PeopleKey> keys) {
+    var sample = Timer.start();
+
+    try {
+      try {
+        applied(transactionTemplate.execute(status -> persist(keys)));
+        keys.clear();
+      } catch (RuntimeException e) {
+        if (!isDuplicate(e)) {
+          throw e;
+        }
+        for (PeopleKey key : List.copyOf(keys)) {
+          flushAlone(key);
+          keys.remove(key);
+        }
+      }
+      return true;
+    } catch (RuntimeException e) {
+      LOGGER.error("Flushing {} buffered people failed, retrying in {}",
+          keys.size(), flushInterval, e);
+      return false;
+    } finally {
+      sample.stop(flushTimer);
+    }
+  }
+
+  private void flushAlone(PeopleKey key) {
+    try {
+      applied(transactionTemplate.execute(status -> persist(List.of(key))));
+    } catch (RuntimeException e) {
+      if (!isDuplicate(e)) {
+        throw e;
+      }
+      release(key);
+      dropped.increment();
+      LOGGER.warn("Dropped buffered people {} born {}, it already exists",
+          key.name(), key.birthDate());
+    }
+  }
+
+  private List<PeopleEntity> persist(List<PeopleKey> keys) {
+    var entities = new ArrayList<PeopleEntity>(keys.size());
+
+    for (PeopleKey key : keys) {
+      var peopleEntity = PeopleEntity.of(key.name(), key.birthDate());
+
+      entityManager.persist(peopleEntity);
+      entities.add(peopleEntity);
+    }
+    entityManager.flush();
+    entityManager.clear();
+    return entities;
+  }
+
+  private void applied(List<PeopleEntity> entities) {
+    for (PeopleEntity peopleEntity : entities) {
+      var key = new PeopleKey(peopleEntity.getName(), peopleEntity.getBirthDate());
+
+      nameIndex.put(peopleEntity);
+      responseCache.invalidate(key);
+      release(key);
+    }
+    flushed.increment(entities.size());
+  }
+
+  /**
+   * The shared {@link EntityManager} does not translate exceptions, so a unique key violation
+   * arrives as a {@link jakarta.persistence.PersistenceException} wrapping Hibernate's
+   * {@link ConstraintViolationException}.
+   */
+  private static boolean isDuplicate(Throwable e) {
+    for (var cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConstraintViolationException
+          || cause instanceof DataIntegrityViolationException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void release(PeopleKey key) {
+    pending.remove(key);
+    room.release();
+  }
+
+  public enum Offer {
+    ACCEPTED,
+    DUPLICATE,
+    FULL
+  }
+
+}
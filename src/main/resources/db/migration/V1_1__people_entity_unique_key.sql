@@ -0,0 +1,2 @@
+alter table people_entity
+    add constraint uk_people_entity_name_birth_date unique (name, birth_date);
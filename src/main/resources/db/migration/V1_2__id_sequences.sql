@@ -0,0 +1,6 @@
+-- Hibernate's pooled optimizer hands out the 50 ids below each value it reads, so the first value
+-- must be at least 50 above the ids the identity columns already gave out.
+create sequence people_entity_seq
+    start with (select coalesce(max(id), 0) + 50 from people_entity) increment by 50;
+create sequence address_entity_seq
+    start with (select coalesce(max(id), 0) + 50 from address_entity) increment by 50;
@@ -0,0 +1 @@
+create index idx_people_entity_name_id on people_entity (name, id);
@@ -0,0 +1,33 @@
+create table people_entity (
+    id bigint generated by default as identity,
+    birth_date date,
+    name varchar(255),
+    primary key (id)
+);
+
+create table address_entity (
+    id bigint generated by default as identity,
+    cep varchar(255),
+    city varchar(255),
+    number varchar(255),
+    public_place varchar(255),
+    people_id bigint,
+    primary key (id)
+);
+
+create table people_entity_addresses (
+    people_entity_id bigint not null,
+    addresses_id bigint not null
+);
+
+alter table people_entity_addresses
+    add constraint uk_people_entity_addresses_addresses_id unique (addresses_id);
+alter table address_entity
+    add constraint fk_address_entity_people_id
+    foreign key (people_id) references people_entity;
+alter table people_entity_addresses
+    add constraint fk_people_entity_addresses_addresses_id
+    foreign key (addresses_id) references address_entity;
+alter table people_entity_addresses
+    add constraint fk_people_entity_addresses_people_entity_id
+    foreign key (people_entity_id) references people_entity;
@@ -0,0 +1,12 @@
+update address_entity a
+set people_id = (
+    select pa.people_entity_id from people_entity_addresses pa where pa.addresses_id = a.id)
+where exists (select 1 from people_entity_addresses pa where pa.addresses_id = a.id);
+
+drop table people_entity_addresses;
+
+delete from address_entity where people_id is null;
+
+alter table address_entity alter column people_id set not null;
+
+create index idx_address_entity_people_id on address_entity (people_id);
@@ -0,0 +1,2 @@
+create index idx_address_entity_cep_id on address_entity (cep, id);
+create index idx_address_entity_city_id on address_entity (city, id);
@@ -0,0 +1 @@
+alter table people_entity add column version bigint default 0 not null;
@@ -1,13 +1,44 @@
 package dev.anderson.peopleapi;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
 
 @SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
 class PeopleApiApplicationTests {
 
+  @Autowired
+  private MockMvc mockMvc;
+
   @Test
   void contextLoads() {
   }
 
+  @Test
+  @DisplayName("Test if prometheus endpoint exposes request, service, pool and hibernate metrics")
+  void prometheusEndpoint() throws Exception {
+    mockMvc.perform(get("/api/v1/people/all")).andExpect(status().isOk());
+
+    String body = mockMvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+
+    assertThat(body)
+        .contains("http_server_requests_seconds_bucket")
+        .contains("people_service_seconds_bucket")
+        .contains("hikaricp_connections_acquire_seconds")
+        .contains("hibernate_statements_total")
+        .contains("hibernate_session_statements");
+  }
+
 }
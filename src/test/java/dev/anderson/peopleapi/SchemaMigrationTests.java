@@ -0,0 +1,93 @@
+package dev.anderson.peopleapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+class SchemaMigrationTests {
+
+  private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+      "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+
+  private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+  @Test
+  @DisplayName("V2 Should move addresses from the join table to the people_id foreign key")
+  void testV2ShouldMoveAddressesFromTheJoinTableToThePeopleIdForeignKey() {
+    Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+
+    jdbcTemplate.update("insert into people_entity (id, name, birth_date)"
+        + " values (1, 'Anderson', date '1990-12-20'), (2, 'Ana', date '1990-12-20')");
+    jdbcTemplate.update("insert into address_entity (id, public_place, number, city, cep)"
+        + " values (1, 'Rua 1', '1', 'São Paulo', '04001-000'),"
+        + " (2, 'Rua 2', '2', 'São Paulo', '04001-000'),"
+        + " (3, 'Rua 3', '3', 'São Paulo', '04001-000')");
+    jdbcTemplate.update("insert into people_entity_addresses (people_entity_id, addresses_id)"
+        + " values (1, 1), (1, 2), (2, 3)");
+
+    Flyway.configure().dataSource(dataSource).load().migrate();
+
+    assertThat(jdbcTemplate.queryForList(
+        "select people_id from address_entity order by id", Long.class))
+        .containsExactly(1L, 1L, 2L);
+    assertThat(jdbcTemplate.queryForObject(
+        "select count(*) from information_schema.tables"
+            + " where lower(table_name) = 'people_entity_addresses'", Integer.class))
+        .isEqualTo(0);
+  }
+
+  @Test
+  @DisplayName("Baseline Should migrate a database created by ddl-auto before the migrations")
+  void testBaselineShouldMigrateADatabaseCreatedByDdlAutoBeforeTheMigrations() {
+    new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline.sql"))
+        .execute(dataSource);
+    jdbcTemplate.update("insert into people_entity (name, birth_date)"
+        + " values ('Anderson', date '1990-12-20'), ('Ana', date '1990-12-20')");
+    jdbcTemplate.update("insert into address_entity (public_place, number, city, cep)"
+        + " values ('Rua 1', '1', 'São Paulo', '04001-000')");
+    jdbcTemplate.update("insert into people_entity_addresses (people_entity_id, addresses_id)"
+        + " values (1, 1)");
+
+    Flyway.configure()
+        .dataSource(dataSource)
+        .baselineOnMigrate(true)
+        .baselineVersion("1")
+        .load()
+        .migrate();
+
+    assertThat(jdbcTemplate.queryForObject(
+        "select next value for people_entity_seq", Long.class)).isEqualTo(52L);
+    assertThat(jdbcTemplate.queryForObject(
+        "select next value for address_entity_seq", Long.class)).isEqualTo(51L);
+    assertThat(jdbcTemplate.queryForObject(
+        "select people_id from address_entity", Long.class)).isEqualTo(1L);
+    assertThat(catchThrowable(() -> jdbcTemplate.update("insert into people_entity"
+        + " (id, name, birth_date, version) values (3, 'Ana', date '1990-12-20', 0)")))
+        .isInstanceOf(DuplicateKeyException.class);
+  }
+
+  @Test
+  @DisplayName("V3 Should index cep prefix and city lookups")
+  void testV3ShouldIndexCepPrefixAndCityLookups() {
+    Flyway.configure().dataSource(dataSource).load().migrate();
+
+    assertThat(explain("select id from address_entity where cep like '0400%' order by cep, id"))
+        .containsIgnoringCase("idx_address_entity_cep_id");
+    assertThat(explain("select id from address_entity where city = 'São Paulo' and id > 0"))
+        .containsIgnoringCase("idx_address_entity_city_id");
+  }
+
+  private String explain(String query) {
+    return jdbcTemplate.queryForObject("explain " + query, String.class);
+  }
+
+}
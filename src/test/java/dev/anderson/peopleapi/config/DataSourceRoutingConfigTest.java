@@ -0,0 +1,138 @@
+package dev.anderson.peopleapi.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.anderson.peopleapi.domain.DTO.PeopleInputDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleKeyDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleLookupDTO;
+import dev.anderson.peopleapi.domain.entities.PeopleEntity;
+import dev.anderson.peopleapi.repositories.PeopleRepository;
+import dev.anderson.peopleapi.service.implementation.AddressServiceImplementation;
+import dev.anderson.peopleapi.service.implementation.PeopleServiceImplementation;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@SpringBootTest(properties = {
+    "spring.main.banner-mode=off",
+    "spring.datasource.url=jdbc:h2:mem:routing-primary",
+    "people.datasource.routing.enabled=true",
+    "people.datasource.routing.migrate-replica=true",
+    "people.datasource.replica.jdbc-url=jdbc:h2:mem:routing-replica"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class DataSourceRoutingConfigTest {
+
+  @Autowired
+  private PeopleServiceImplementation peopleServiceImplementation;
+
+  @Autowired
+  private AddressServiceImplementation addressServiceImplementation;
+
+  @Autowired
+  private PeopleRepository peopleRepository;
+
+  @Autowired
+  @Qualifier("primaryDataSource")
+  private DataSource primaryDataSource;
+
+  @Autowired
+  @Qualifier("replicaDataSource")
+  private DataSource replicaDataSource;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  @DisplayName("Writes Should go to the primary and read-only transactions to the replica")
+  void testWritesShouldGoToThePrimaryAndReadOnlyTransactionsToTheReplica() {
+    peopleRepository.save(new PeopleEntity("Ana", LocalDate.of(1990, 12, 20)));
+    new JdbcTemplate(replicaDataSource).update("insert into people_entity (id, name, birth_date)"
+        + " values (100, 'Anderson', date '1990-12-20')");
+
+    var lookup = (PeopleLookupDTO) peopleServiceImplementation.lookupPeople(List.of(
+        new PeopleKeyDTO("Ana", "20/12/1990"),
+        new PeopleKeyDTO("Anderson", "20/12/1990"))).getBody();
+
+    assertThat(countPeople(primaryDataSource)).isEqualTo(1);
+    assertThat(lookup.found().get(0).name()).isEqualTo("Anderson");
+    assertThat(lookup.missing()).containsExactly(new PeopleKeyDTO("Ana", "20/12/1990"));
+  }
+
+  @Test
+  @DisplayName("Cache loads Should read the primary while the replica lags behind a write")
+  void testCacheLoadsShouldReadThePrimaryWhileTheReplicaLagsBehindAWrite() {
+    var replica = new JdbcTemplate(replicaDataSource);
+
+    peopleRepository.save(new PeopleEntity("Ana", LocalDate.of(1990, 12, 20)));
+    replica.update("insert into people_entity (id, name, birth_date, version)"
+        + " values (1, 'Ana', date '1990-12-20', 0)");
+    peopleServiceImplementation.findPeople("Ana", "20/12/1990");
+    addressServiceImplementation.findAddress("Ana", "20/12/1990");
+
+    peopleServiceImplementation.updatePeople(
+        new PeopleInputDTO("Ana", "20/12/1990", "Bruna", ""));
+
+    assertThat(peopleServiceImplementation.findPeople("Ana", "20/12/1990")
+        .getStatusCode().value()).isEqualTo(404);
+    assertThat(addressServiceImplementation.findAddress("Ana", "20/12/1990")
+        .getStatusCode().value()).isEqualTo(404);
+    assertThat(peopleServiceImplementation.findPeople("Bruna", "20/12/1990")
+        .getStatusCode().value()).isEqualTo(200);
+
+    replica.update("update people_entity set name = 'Bruna' where name = 'Ana'");
+
+    assertThat(peopleServiceImplementation.findPeople("Ana", "20/12/1990")
+        .getStatusCode().value()).isEqualTo(404);
+  }
+
+  @Test
+  @DisplayName("Read-only transactions Should fall back to the primary while the replica lags")
+  void testReadOnlyTransactionsShouldFallBackToThePrimaryWhileTheReplicaLags() {
+    var replicaMonitor = new ReplicaMonitor(
+        replicaDataSource, "select 10", Duration.ofSeconds(5), Duration.ofSeconds(5));
+    var routingDataSource = new ReadWriteRoutingDataSource(
+        primaryDataSource, replicaDataSource, replicaMonitor, true);
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    try {
+      assertThat(routingDataSource.determineCurrentLookupKey())
+          .isEqualTo(ReadWriteRoutingDataSource.Route.REPLICA);
+
+      replicaMonitor.check();
+
+      assertThat(replicaMonitor.isUsable()).isFalse();
+      assertThat(routingDataSource.determineCurrentLookupKey())
+          .isEqualTo(ReadWriteRoutingDataSource.Route.PRIMARY);
+    } finally {
+      TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+  }
+
+  @Test
+  @DisplayName("Each pool Should publish its own metrics")
+  void testEachPoolShouldPublishItsOwnMetrics() {
+    peopleServiceImplementation.findPeople("Ana", "20/12/1990");
+
+    assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge())
+        .isNotNull();
+    assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica").gauge())
+        .isNotNull();
+  }
+
+  private Integer countPeople(DataSource dataSource) {
+    return new JdbcTemplate(dataSource)
+        .queryForObject("select count(*) from people_entity", Integer.class);
+  }
+
+}
@@ -0,0 +1,96 @@
+package dev.anderson.peopleapi.config;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.anderson.peopleapi.ratelimit.LoadShedder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+    "spring.main.banner-mode=off",
+    "people.rate-limit.enabled=true",
+    "people.rate-limit.capacity=3",
+    "people.rate-limit.refill-per-second=0.001",
+    "people.rate-limit.routes.list-all.capacity=2",
+    "people.rate-limit.routes.list-all.refill-per-second=0.001",
+    "people.load-shedding.enabled=true",
+    "people.load-shedding.max-acquire-time=50ms",
+    "people.load-shedding.check-interval=1h",
+    "people.load-shedding.step=1",
+    "people.load-shedding.max-ratio=1"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RateLimitConfigTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private LoadShedder loadShedder;
+
+  @Test
+  @DisplayName("Rate limiter Should answer 429 once the client spent the route quota")
+  void testRateLimiterShouldAnswer429OnceTheClientSpentTheRouteQuota() throws Exception {
+    mockMvc.perform(get("/api/v1/people/all")).andExpect(status().isOk());
+    mockMvc.perform(get("/api/v1/people/all")).andExpect(status().isOk());
+
+    mockMvc.perform(get("/api/v1/people/all"))
+        .andExpectAll(
+            status().isTooManyRequests(),
+            header().exists("Retry-After"),
+            jsonPath("$.errors[0]").exists()
+        );
+    mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990"))
+        .andExpect(status().isNotFound());
+    mockMvc.perform(get("/api/v1/people/all").header("X-API-Key", "batch-client"))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+
+    assertThat(meterRegistry.get("people.ratelimit.rejected").tag("route", "list-all")
+        .counter().count()).isEqualTo(1.0);
+    assertThat(meterRegistry.get("people.ratelimit.buckets").gauge().value()).isEqualTo(3.0);
+  }
+
+  @Test
+  @DisplayName("Load shedder Should reject requests while connections are slow to acquire")
+  void testLoadShedderShouldRejectRequestsWhileConnectionsAreSlowToAcquire() throws Exception {
+    var acquire = meterRegistry.timer("hikaricp.connections.acquire", "pool", "test");
+
+    for (int i = 0; i < 100; i++) {
+      acquire.record(Duration.ofMillis(500));
+    }
+    loadShedder.check();
+
+    mockMvc.perform(get("/api/v1/people/all"))
+        .andExpectAll(
+            status().isServiceUnavailable(),
+            header().string("Retry-After", "1")
+        );
+    assertThat(meterRegistry.get("people.loadshedding.ratio").gauge().value()).isEqualTo(1.0);
+
+    for (int i = 0; i < 3; i++) {
+      loadShedder.check();
+    }
+
+    mockMvc.perform(get("/api/v1/people/all")).andExpect(status().isOk());
+    assertThat(loadShedder.ratio()).isEqualTo(0.0);
+    assertThat(meterRegistry.get("people.loadshedding.rejected").counter().count())
+        .isEqualTo(1.0);
+  }
+
+}
@@ -0,0 +1,42 @@
+package dev.anderson.peopleapi.config;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+@SpringBootTest(
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = {"spring.main.banner-mode=off", "people.threads.virtual=true"})
+class VirtualThreadConfigTest {
+
+  @Autowired
+  private ServletWebServerApplicationContext applicationContext;
+
+  @BeforeAll
+  static void requireVirtualThreads() {
+    Assumptions.assumeTrue(VirtualThreads.isAvailable());
+  }
+
+  @Test
+  @DisplayName("Tomcat Should run requests on virtual threads")
+  void testTomcatShouldRunRequestsOnVirtualThreads() {
+    var tomcat = ((TomcatWebServer) applicationContext.getWebServer()).getTomcat();
+    var executor = (Executor) tomcat.getConnector().getProtocolHandler().getExecutor();
+    var threadClass = CompletableFuture
+        .supplyAsync(() -> Thread.currentThread().getClass().getName(), executor)
+        .join();
+
+    assertThat(threadClass).isEqualTo("java.lang.VirtualThread");
+  }
+
+}
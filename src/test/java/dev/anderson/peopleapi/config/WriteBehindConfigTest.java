@@ -0,0 +1,167 @@
+package dev.anderson.peopleapi.config;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.anderson.peopleapi.domain.DTO.BatchReportDTO;
+import dev.anderson.peopleapi.domain.DTO.ImportReportDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleInputDTO;
+import dev.anderson.peopleapi.domain.entities.PeopleEntity;
+import dev.anderson.peopleapi.repositories.PeopleRepository;
+import dev.anderson.peopleapi.service.implementation.PeopleBatchServiceImplementation;
+import dev.anderson.peopleapi.service.implementation.PeopleImportServiceImplementation;
+import dev.anderson.peopleapi.service.implementation.PeopleServiceImplementation;
+import dev.anderson.peopleapi.writebehind.PeopleWriteBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest(properties = {
+    "spring.main.banner-mode=off",
+    "people.write-behind.enabled=true",
+    "people.write-behind.capacity=2",
+    "people.write-behind.batch-size=100",
+    "people.write-behind.flush-interval=1s",
+    "people.write-behind.offer-timeout=10ms"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class WriteBehindConfigTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private PeopleWriteBuffer writeBuffer;
+
+  @Autowired
+  private PeopleRepository peopleRepository;
+
+  @Autowired
+  private PeopleServiceImplementation peopleServiceImplementation;
+
+  @Autowired
+  private PeopleBatchServiceImplementation peopleBatchServiceImplementation;
+
+  @Autowired
+  private PeopleImportServiceImplementation peopleImportServiceImplementation;
+
+  @Test
+  @DisplayName("Write-behind Should accept the people and insert it within the flush interval")
+  void testWriteBehindShouldAcceptThePeopleAndInsertItWithinTheFlushInterval() throws Exception {
+    makePeople("Anderson", "20/12/1990").andExpect(status().isAccepted());
+    makePeople("Anderson", "20/12/1990").andExpect(status().isBadRequest());
+    mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990"))
+        .andExpect(status().isNotFound());
+
+    awaitFlushed();
+
+    mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990"))
+        .andExpect(status().isOk());
+    makePeople("Anderson", "20/12/1990").andExpect(status().isBadRequest());
+    assertThat(meterRegistry.counter("people.writebehind.flushed").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("Write-behind Should drop people created elsewhere and write the rest of the batch")
+  void testWriteBehindShouldDropPeopleCreatedElsewhereAndWriteTheRestOfTheBatch()
+      throws Exception {
+    makePeople("Anderson", "20/12/1990").andExpect(status().isAccepted());
+    makePeople("Maria", "01/01/1980").andExpect(status().isAccepted());
+    peopleRepository.saveAndFlush(PeopleEntity.of("Anderson", LocalDate.of(1990, 12, 20)));
+
+    awaitFlushed();
+
+    mockMvc.perform(get("/api/v1/people?name=Maria&birthDate=01/01/1980"))
+        .andExpect(status().isOk());
+    assertThat(writeBuffer.buffered()).isEqualTo(0);
+    assertThat(meterRegistry.counter("people.writebehind.dropped").count()).isEqualTo(1.0);
+    assertThat(meterRegistry.counter("people.writebehind.flushed").count()).isEqualTo(1.0);
+    makePeople("Joao", "02/02/1970").andExpect(status().isAccepted());
+  }
+
+  @Test
+  @DisplayName("Write-behind Should keep synchronous writes off keys accepted and not flushed yet")
+  void testWriteBehindShouldKeepSynchronousWritesOffKeysAcceptedAndNotFlushedYet()
+      throws Exception {
+    peopleRepository.saveAndFlush(PeopleEntity.of("Maria", LocalDate.of(1980, 1, 1)));
+    makePeople("Anderson", "20/12/1990").andExpect(status().isAccepted());
+
+    var rename = new PeopleInputDTO("Maria", "01/01/1980", "Anderson", "20/12/1990");
+    var replaced = peopleServiceImplementation.replacePeople(rename);
+    var updated = peopleServiceImplementation.updatePeople(rename);
+    var batch = (BatchReportDTO) peopleBatchServiceImplementation.updatePeople(List.of(rename))
+        .getBody();
+    var imported = (ImportReportDTO) peopleImportServiceImplementation.importPeople(
+        new ByteArrayInputStream("{\"name\": \"Anderson\", \"birthDate\": \"20/12/1990\"}"
+            .getBytes(StandardCharsets.UTF_8))).getBody();
+
+    assertThat(replaced.getStatusCode().value()).isEqualTo(400);
+    assertThat(updated.getStatusCode().value()).isEqualTo(400);
+    assertThat(batch.items().get(0).status()).isEqualTo(400);
+    assertThat(imported.imported()).isEqualTo(0);
+
+    awaitFlushed();
+
+    assertThat(peopleRepository.findByNameAndBirthDate("Maria", LocalDate.of(1980, 1, 1)))
+        .isPresent();
+    assertThat(meterRegistry.counter("people.writebehind.dropped").count()).isEqualTo(0.0);
+    assertThat(meterRegistry.counter("people.writebehind.flushed").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("Write-behind Should answer 503 when the buffer is full and flush it on stop")
+  void testWriteBehindShouldAnswer503WhenTheBufferIsFullAndFlushItOnStop() throws Exception {
+    makePeople("Anderson", "20/12/1990").andExpect(status().isAccepted());
+    makePeople("Maria", "01/01/1980").andExpect(status().isAccepted());
+
+    makePeople("Joao", "02/02/1970")
+        .andExpectAll(
+            status().isServiceUnavailable(),
+            header().string("Retry-After", "1"),
+            jsonPath("$.errors[0]").exists()
+        );
+
+    writeBuffer.stop();
+
+    mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990"))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/api/v1/people?name=Maria&birthDate=01/01/1980"))
+        .andExpect(status().isOk());
+    assertThat(writeBuffer.buffered()).isEqualTo(0);
+    makePeople("Joao", "02/02/1970").andExpect(status().isServiceUnavailable());
+    assertThat(meterRegistry.counter("people.writebehind.rejected").count()).isEqualTo(2.0);
+  }
+
+  private void awaitFlushed() throws InterruptedException {
+    var deadline = System.nanoTime() + 10_000_000_000L;
+
+    while (writeBuffer.buffered() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+    }
+  }
+
+  private ResultActions makePeople(String name, String birthDate) throws Exception {
+    return mockMvc.perform(post("/api/v1/people")
+        .param("name", name)
+        .param("birthDate", birthDate));
+  }
+
+}
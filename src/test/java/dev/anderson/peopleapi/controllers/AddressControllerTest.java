@@ -1,7 +1,9 @@
 package dev.anderson.peopleapi.controllers;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -11,6 +13,7 @@ import dev.anderson.peopleapi.repositories.PeopleRepository;
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -76,6 +79,24 @@ class AddressControllerTest {
         );
   }
 
+  @Test
+  @DisplayName("Get Addresses by cep Should return the addresses with their owner")
+  void testGetAddressesByCepShouldReturnTheAddressesWithTheirOwner() throws Exception {
+    var peopleEntity = new PeopleEntity("Anderson",
+        LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy")),
+        new ArrayList<>(List.of(new AddressEntity("Rua 1", "1", "São Paulo", "04001-000"))));
+
+    peopleRepository.save(peopleEntity);
+
+    mockMvc.perform(get("/api/v1/address/by-cep?prefix=04001"))
+        .andExpectAll(
+            MockMvcResultMatchers.status().isOk(),
+            MockMvcResultMatchers.jsonPath("$[0].cep").value("04001-000"),
+            MockMvcResultMatchers.jsonPath("$[0].people.name").value("Anderson"),
+            MockMvcResultMatchers.jsonPath("$[0].people.birthDate").value("20/12/1990")
+        );
+  }
+
   @Test
   @DisplayName("Post Address Should return status code 201")
   void testPostAddressShouldReturnStatusCode201() throws Exception {
@@ -97,6 +118,27 @@ class AddressControllerTest {
 
   }
 
+  @Test
+  @DisplayName("Get Address by id Should answer the address the Location points to")
+  void testGetAddressByIdShouldAnswerTheAddressTheLocationPointsTo() throws Exception {
+    var peopleEntity = new PeopleEntity("Anderson",
+        LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy")));
+    peopleRepository.save(peopleEntity);
+
+    var location = mockMvc.perform(post("/api/v1/address?name=Anderson&birthDate=20/12/1990")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"publicPlace\": \"Rua Amelia\", \"number\": \"1254\","
+                + " \"city\": \"São Paulo\", \"cep\": \"04181-150\"}"))
+        .andExpect(status().isCreated())
+        .andReturn().getResponse().getHeader("Location");
+
+    mockMvc.perform(get(location))
+        .andExpect(status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.publicPlace").value("Rua Amelia"));
+    mockMvc.perform(get("/api/v1/address/0"))
+        .andExpect(status().isNotFound());
+  }
+
   @Test
   @DisplayName("Post Address Should return status code 404")
   void testPostAddressShouldReturnStatusCode404() throws Exception {
@@ -114,4 +156,74 @@ class AddressControllerTest {
 
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("Put Address by id Should update the address")
+  void testPutAddressByIdShouldUpdateTheAddress() throws Exception {
+    var addressEntity = new AddressEntity("Rua 1", "1", "São Paulo", "04001-000");
+    var peopleEntity = new PeopleEntity("Anderson",
+        LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy")),
+        new ArrayList<>(List.of(addressEntity)));
+
+    peopleRepository.save(peopleEntity);
+
+    mockMvc.perform(put("/api/v1/address/" + addressEntity.getId()
+                + "?name=Anderson&birthDate=20/12/1990")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(
+                "{\n"
+                    + "    \"publicPlace\": \"Rua Amelia\",\n"
+                    + "    \"number\": \"1254\",\n"
+                    + "    \"city\": \"São Paulo\",\n"
+                    + "    \"cep\": \"04181-150\"\n"
+                    + "}"
+            ))
+        .andExpect(status().isOk());
+
+    mockMvc.perform(get("/api/v1/address?name=Anderson&birthDate=20/12/1990"))
+        .andExpectAll(
+            MockMvcResultMatchers.status().isOk(),
+            MockMvcResultMatchers.jsonPath("$[0].id").value(addressEntity.getId()),
+            MockMvcResultMatchers.jsonPath("$[0].publicPlace").value("Rua Amelia"),
+            MockMvcResultMatchers.jsonPath("$[0].cep").value("04181-150")
+        );
+  }
+
+  @Test
+  @DisplayName("Put Address by id Should return status code 404")
+  void testPutAddressByIdShouldReturnStatusCode404() throws Exception {
+    var peopleEntity = new PeopleEntity("Anderson",
+        LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy")));
+    peopleRepository.save(peopleEntity);
+
+    mockMvc.perform(put("/api/v1/address/99?name=Anderson&birthDate=20/12/1990")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"publicPlace\": \"Rua Amelia\", \"number\": \"1254\","
+                + " \"city\": \"São Paulo\", \"cep\": \"04181-150\"}"))
+        .andExpectAll(
+            MockMvcResultMatchers.status().isNotFound(),
+            MockMvcResultMatchers.jsonPath("$.errors[0]").value("Address with id: 99-> Not found")
+        );
+  }
+
+  @Test
+  @DisplayName("Delete Address by id Should remove the address")
+  void testDeleteAddressByIdShouldRemoveTheAddress() throws Exception {
+    var addressEntity = new AddressEntity("Rua 1", "1", "São Paulo", "04001-000");
+    var peopleEntity = new PeopleEntity("Anderson",
+        LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy")),
+        new ArrayList<>(List.of(addressEntity)));
+
+    peopleRepository.save(peopleEntity);
+
+    mockMvc.perform(delete("/api/v1/address/" + addressEntity.getId()
+            + "?name=Anderson&birthDate=20/12/1990"))
+        .andExpect(status().isOk());
+    mockMvc.perform(delete("/api/v1/address/" + addressEntity.getId()
+            + "?name=Anderson&birthDate=20/12/1990"))
+        .andExpect(status().isNotFound());
+
+    mockMvc.perform(get("/api/v1/address/all"))
+        .andExpect(content().json("[]"));
+  }
+
+}
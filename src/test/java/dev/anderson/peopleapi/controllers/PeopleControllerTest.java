@@ -9,6 +9,10 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import dev.anderson.peopleapi.domain.entities.PeopleEntity;
 import dev.anderson.peopleapi.repositories.PeopleRepository;
 import jakarta.transaction.Transactional;
@@ -90,6 +94,48 @@ class PeopleControllerTest {
         );
   }
 
+  @Test
+  @DisplayName("Get All People with cursor Should return next cursor header")
+  void testGetAllPeopleWithCursorShouldReturnNextCursorHeader() throws Exception {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+
+    peopleRepository.save(new PeopleEntity("Anderson", birthDate));
+    peopleRepository.save(new PeopleEntity("Pedro", birthDate));
+
+    mockMvc.perform(get("/api/v1/people/all?size=1&after="))
+        .andExpectAll(
+            MockMvcResultMatchers.status().isOk(),
+            MockMvcResultMatchers.jsonPath("$[0].name").value("Anderson"),
+            MockMvcResultMatchers.header().exists("x-next-cursor"),
+            MockMvcResultMatchers.header().doesNotExist("x-total-count")
+        );
+  }
+
+  @Test
+  @DisplayName("Get All People with invalid cursor Should return status code 400")
+  void testGetAllPeopleWithInvalidCursorShouldReturnStatusCode400() throws Exception {
+    mockMvc.perform(get("/api/v1/people/all?size=1&after=invalid"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @Transactional(Transactional.TxType.NOT_SUPPORTED)
+  @DisplayName("Get Search People Should return people whose name starts with the prefix")
+  void testGetSearchPeopleShouldReturnPeopleWhoseNameStartsWithThePrefix() throws Exception {
+    mockMvc.perform(post("/api/v1/people?name=Anderson&birthDate=20/12/1990"));
+    mockMvc.perform(post("/api/v1/people?name=Ana&birthDate=20/12/1990"));
+    mockMvc.perform(post("/api/v1/people?name=Pedro&birthDate=20/12/1990"));
+
+    mockMvc.perform(get("/api/v1/people/search?prefix=an&size=1"))
+        .andExpectAll(
+            MockMvcResultMatchers.status().isOk(),
+            MockMvcResultMatchers.jsonPath("$.length()").value(1),
+            MockMvcResultMatchers.jsonPath("$[0].name").value("Ana"),
+            MockMvcResultMatchers.jsonPath("$[0].birthDate").value("20/12/1990"),
+            MockMvcResultMatchers.header().exists("x-next-cursor")
+        );
+  }
+
   @Test
   @DisplayName("Get 'findPeople' Should return status code 200")
   void testGetFindPeopleShouldReturnStatusCode200() throws Exception {
@@ -134,6 +180,49 @@ class PeopleControllerTest {
         );
   }
 
+  @Test
+  @DisplayName("Get 'findPeople' twice Should count one cache hit")
+  void testGetFindPeopleTwiceShouldCountOneCacheHit() throws Exception {
+    PeopleEntity peopleEntity = new PeopleEntity("Anderson",
+        LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy")));
+
+    peopleRepository.save(peopleEntity);
+
+    mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990"));
+    mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990"))
+        .andExpectAll(
+            MockMvcResultMatchers.status().isOk(),
+            content().contentType("application/json"),
+            MockMvcResultMatchers.jsonPath("name").value("Anderson")
+        );
+
+    mockMvc.perform(get("/api/v1/cache/stats"))
+        .andExpectAll(
+            MockMvcResultMatchers.status().isOk(),
+            MockMvcResultMatchers.jsonPath("$[0].name").value("people"),
+            MockMvcResultMatchers.jsonPath("$[0].hits").value(1),
+            MockMvcResultMatchers.jsonPath("$[0].misses").value(1)
+        );
+  }
+
+  @Test
+  @DisplayName("Get Find People with a matching If-None-Match Should return status code 304")
+  void testGetFindPeopleWithAMatchingIfNoneMatchShouldReturnStatusCode304() throws Exception {
+    peopleRepository.save(new PeopleEntity("Anderson",
+        LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"))));
+
+    var etag = mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990"))
+        .andReturn().getResponse().getHeader("ETag");
+
+    mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990")
+            .header("If-None-Match", etag))
+        .andExpectAll(
+            status().isNotModified(),
+            MockMvcResultMatchers.header().string("ETag", etag),
+            content().string("")
+        );
+  }
+
   @Test
   @DisplayName("Get 'findPeople' Should return status code 404")
   void testGetFindPeopleShouldReturnStatusCode404() throws Exception {
@@ -198,6 +287,42 @@ class PeopleControllerTest {
         );
   }
 
+  @Test
+  @DisplayName("Post Lookup People Should return found people and missing keys")
+  void testPostLookupPeopleShouldReturnFoundPeopleAndMissingKeys() throws Exception {
+    peopleRepository.save(new PeopleEntity("Anderson",
+        LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"))));
+
+    mockMvc.perform(post("/api/v1/people/lookup")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[{\"name\": \"Anderson\", \"birthDate\": \"20/12/1990\"},"
+                + " {\"name\": \"Ana\", \"birthDate\": \"20/12/1990\"}]"))
+        .andExpectAll(
+            status().isOk(),
+            MockMvcResultMatchers.jsonPath("$.found[0].name").value("Anderson"),
+            MockMvcResultMatchers.jsonPath("$.missing[0].name").value("Ana")
+        );
+  }
+
+  @Test
+  @DisplayName("Post 'importPeople' Should return import report")
+  void testPostImportPeopleShouldReturnImportReport() throws Exception {
+    mockMvc.perform(post("/api/v1/people/bulk")
+            .contentType("application/x-ndjson")
+            .content(
+                "{\"name\": \"Ana\", \"birthDate\": \"20/12/1990\"}\n"
+                    + "{\"name\": \"Pedro\", \"birthDate\": \"invalid date\"}\n"
+            ))
+        .andExpectAll(
+            MockMvcResultMatchers.status().isOk(),
+            content().contentType("application/json"),
+            MockMvcResultMatchers.jsonPath("imported").value(1),
+            MockMvcResultMatchers.jsonPath("errors[0].line").value(2)
+        );
+
+    assertEquals(1, peopleRepository.count());
+  }
+
   @Test
   @DisplayName("Put 'updatePeople' Should return status code 200")
   void testPutUpdatePeopleShouldReturnStatusCode200() throws Exception {
@@ -324,6 +449,87 @@ class PeopleControllerTest {
         );
   }
 
+  @Test
+  @DisplayName("Get All People Should return cbor when it is accepted")
+  void testGetAllPeopleShouldReturnCborWhenItIsAccepted() throws Exception {
+    peopleRepository.save(new PeopleEntity("Anderson",
+        LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"))));
+
+    var body = mockMvc.perform(get("/api/v1/people/all?page=0&size=3")
+            .accept("application/cbor"))
+        .andExpectAll(
+            status().isOk(),
+            content().contentType("application/cbor")
+        )
+        .andReturn().getResponse().getContentAsByteArray();
+    JsonNode page = new ObjectMapper(new CBORFactory()).readTree(body);
+
+    assertEquals("Anderson", page.get(0).get("name").asText());
+    assertEquals("20/12/1990", page.get(0).get("birthDate").asText());
+  }
+
+  @Test
+  @DisplayName("Get Find People Should return smile from the cache and json by default")
+  void testGetFindPeopleShouldReturnSmileFromTheCacheAndJsonByDefault() throws Exception {
+    peopleRepository.save(new PeopleEntity("Anderson",
+        LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"))));
+
+    mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990")
+            .accept(MediaType.ALL))
+        .andExpectAll(
+            status().isOk(),
+            content().contentType("application/json"),
+            MockMvcResultMatchers.jsonPath("$.name").value("Anderson")
+        );
+
+    var body = mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990")
+            .accept("application/x-jackson-smile"))
+        .andExpectAll(
+            status().isOk(),
+            content().contentType("application/x-jackson-smile")
+        )
+        .andReturn().getResponse().getContentAsByteArray();
+
+    assertEquals("Anderson",
+        new ObjectMapper(new SmileFactory()).readTree(body).get("name").asText());
+  }
+
+
+  @Test
+  @DisplayName("Get Find People Should tag each representation and vary on Accept")
+  void testGetFindPeopleShouldTagEachRepresentationAndVaryOnAccept() throws Exception {
+    peopleRepository.save(new PeopleEntity("Anderson",
+        LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"))));
+
+    var jsonTag = mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990"))
+        .andExpect(MockMvcResultMatchers.header().string("Vary", "Accept"))
+        .andReturn().getResponse().getHeader("ETag");
+    var cborTag = mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990")
+            .accept("application/cbor"))
+        .andExpect(MockMvcResultMatchers.header().string("Vary", "Accept"))
+        .andReturn().getResponse().getHeader("ETag");
+
+    assertEquals(jsonTag.substring(0, jsonTag.length() - 1) + "+cbor\"", cborTag);
+
+    mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990")
+            .accept("application/cbor")
+            .header("If-None-Match", jsonTag))
+        .andExpectAll(
+            status().isOk(),
+            content().contentType("application/cbor")
+        );
+    mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990")
+            .accept("application/cbor")
+            .header("If-None-Match", cborTag))
+        .andExpectAll(
+            status().isNotModified(),
+            MockMvcResultMatchers.header().string("ETag", cborTag)
+        );
+    mockMvc.perform(get("/api/v1/people?name=Anderson&birthDate=20/12/1990")
+            .header("If-None-Match", cborTag))
+        .andExpect(status().isOk());
+  }
+
   @Test
   @DisplayName("Delete 'deletePeople' Should return status code 200")
   void testDeleteDeletePeopleShouldReturnStatusCode200() throws Exception {
@@ -336,6 +542,24 @@ class PeopleControllerTest {
         .andExpect(status().isOk());
   }
 
+  @Test
+  @DisplayName("Delete Batch Delete People Should return the outcome of every item")
+  void testDeleteBatchDeletePeopleShouldReturnTheOutcomeOfEveryItem() throws Exception {
+    peopleRepository.save(new PeopleEntity("Anderson",
+        LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"))));
+
+    mockMvc.perform(delete("/api/v1/people/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[{\"name\": \"Anderson\", \"birthDate\": \"20/12/1990\"},"
+                + " {\"name\": \"Ana\", \"birthDate\": \"20/12/1990\"}]"))
+        .andExpectAll(
+            status().isOk(),
+            MockMvcResultMatchers.jsonPath("$.succeeded").value(1),
+            MockMvcResultMatchers.jsonPath("$.items[0].status").value(200),
+            MockMvcResultMatchers.jsonPath("$.items[1].status").value(404)
+        );
+  }
+
   @Test
   @DisplayName("Delete 'deletePeople' Should return status code 400")
   void testDeleteDeletePeopleShouldReturnStatusCode400() throws Exception {
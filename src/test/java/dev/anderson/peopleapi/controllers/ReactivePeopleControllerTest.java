@@ -0,0 +1,291 @@
+package dev.anderson.peopleapi.controllers;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.main.banner-mode=off",
+    "spring.flyway.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1",
+    "spring.r2dbc.url=r2dbc:h2:mem:///reactive"
+})
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+class ReactivePeopleControllerTest {
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @Autowired
+  private DatabaseClient databaseClient;
+
+  @Autowired
+  private ReactiveWebServerApplicationContext applicationContext;
+
+  @BeforeEach
+  void cleanUp() {
+    databaseClient.sql("delete from address_entity").then().block();
+    databaseClient.sql("delete from people_entity").then().block();
+  }
+
+  @Test
+  @DisplayName("Reactive profile Should serve the API from Netty")
+  void testReactiveProfileShouldServeTheApiFromNetty() {
+    assertThat(applicationContext.getWebServer()).isInstanceOf(NettyWebServer.class);
+  }
+
+  @Test
+  @DisplayName("Post Make People Should return 201 and then 400 for the same key")
+  void testPostMakePeopleShouldReturn201AndThen400ForTheSameKey() {
+    makePeople("Anderson").expectStatus().isCreated();
+
+    makePeople("Anderson")
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.errors[0]")
+        .isEqualTo("People with name: Anderson and Birth Date: 20/12/1990-> Already Exist");
+  }
+
+  @Test
+  @DisplayName("Get Find People Should return the people and answer 304 to its ETag")
+  void testGetFindPeopleShouldReturnThePeopleAndAnswer304ToItsETag() {
+    makePeople("Anderson");
+
+    var etag = webTestClient.get().uri("/api/v1/people?name=Anderson&birthDate=20/12/1990")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.name").isEqualTo("Anderson")
+        .jsonPath("$.birthDate").isEqualTo("20/12/1990")
+        .returnResult().getResponseHeaders().getETag();
+
+    webTestClient.get().uri("/api/v1/people?name=Anderson&birthDate=20/12/1990")
+        .header("If-None-Match", etag)
+        .exchange()
+        .expectStatus().isNotModified();
+  }
+
+  @Test
+  @DisplayName("Get Find People Should return 404 and 400 like the servlet stack")
+  void testGetFindPeopleShouldReturn404And400LikeTheServletStack() {
+    webTestClient.get().uri("/api/v1/people?name=Anderson&birthDate=20/12/1990")
+        .exchange()
+        .expectStatus().isNotFound()
+        .expectBody()
+        .jsonPath("$.errors[0]")
+        .isEqualTo("People with name: Anderson and Birth Date: 20/12/1990-> Not found");
+
+    webTestClient.get().uri("/api/v1/people?name=Anderson&birthDate=invalid")
+        .exchange()
+        .expectStatus().isBadRequest();
+  }
+
+  @Test
+  @DisplayName("Get All People Should return addresses and the total count")
+  void testGetAllPeopleShouldReturnAddressesAndTheTotalCount() {
+    makePeople("Anderson");
+    makePeople("Ana");
+    makeAddress("Anderson").expectStatus().isCreated().expectHeader().exists("Location");
+
+    webTestClient.get().uri("/api/v1/people/all?page=0&size=3")
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().valueEquals("x-total-count", "2")
+        .expectBody()
+        .jsonPath("$[0].name").isEqualTo("Ana")
+        .jsonPath("$[1].addressDTO[0].publicPlace").isEqualTo("Rua 1");
+  }
+
+  @Test
+  @DisplayName("Get All People with cursor Should return the next cursor header")
+  void testGetAllPeopleWithCursorShouldReturnTheNextCursorHeader() {
+    makePeople("Ana");
+    makePeople("Anderson");
+
+    var cursor = webTestClient.get().uri("/api/v1/people/all?after=&size=1")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$[0].name").isEqualTo("Ana")
+        .returnResult().getResponseHeaders().getFirst("x-next-cursor");
+
+    webTestClient.get().uri("/api/v1/people/all?after=" + cursor + "&size=1")
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().doesNotExist("x-next-cursor")
+        .expectBody()
+        .jsonPath("$[0].name").isEqualTo("Anderson");
+  }
+
+  @Test
+  @DisplayName("Get All People with cursor Should return 400 when size is out of range")
+  void testGetAllPeopleWithCursorShouldReturn400WhenSizeIsOutOfRange() {
+    webTestClient.get().uri("/api/v1/people/all?after=&size=0")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.errors[0]").isEqualTo("Size must be between 1 and 1000");
+  }
+
+  @Test
+  @DisplayName("Patch and Delete People Should move and remove the people")
+  void testPatchAndDeletePeopleShouldMoveAndRemoveThePeople() {
+    makePeople("Anderson");
+    makeAddress("Anderson");
+
+    webTestClient.patch().uri("/api/v1/people")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{\"name\": \"Anderson\", \"birthDate\": \"20/12/1990\","
+            + " \"newName\": \"Ana\", \"newBirthDate\": \"\"}")
+        .exchange()
+        .expectStatus().isOk();
+
+    webTestClient.delete().uri("/api/v1/people?name=Ana&birthDate=20/12/1990")
+        .exchange()
+        .expectStatus().isOk();
+
+    webTestClient.get().uri("/api/v1/people?name=Ana&birthDate=20/12/1990")
+        .exchange()
+        .expectStatus().isNotFound();
+    assertThat(databaseClient.sql("select count(*) from address_entity")
+        .map(row -> row.get(0, Long.class)).one().block())
+        .isEqualTo(0L);
+  }
+
+  @Test
+  @DisplayName("Put and Patch People Should answer an unchanged key like the servlet stack")
+  void testPutAndPatchPeopleShouldAnswerAnUnchangedKeyLikeTheServletStack() {
+    makePeople("Anderson");
+
+    var unchanged = "{\"name\": \"Anderson\", \"birthDate\": \"20/12/1990\","
+        + " \"newName\": \"Anderson\", \"newBirthDate\": \"20/12/1990\"}";
+
+    webTestClient.put().uri("/api/v1/people")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(unchanged)
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.errors[0]")
+        .isEqualTo("People with name: Anderson and Birth Date: 20/12/1990-> Already Exist");
+    webTestClient.patch().uri("/api/v1/people")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(unchanged)
+        .exchange()
+        .expectStatus().isOk();
+  }
+
+  @Test
+  @DisplayName("Post Make People Should take consecutive ids from the pooled sequence block")
+  void testPostMakePeopleShouldTakeConsecutiveIdsFromThePooledSequenceBlock() {
+    makePeople("Anderson").expectStatus().isCreated();
+    makePeople("Ana").expectStatus().isCreated();
+    makeAddress("Anderson").expectStatus().isCreated();
+    makeAddress("Ana").expectStatus().isCreated();
+
+    var peopleIds = databaseClient.sql("select id from people_entity order by id")
+        .map(row -> row.get(0, Long.class)).all().collectList().block();
+    var addressIds = databaseClient.sql("select id from address_entity order by id")
+        .map(row -> row.get(0, Long.class)).all().collectList().block();
+
+    assertThat(peopleIds.get(1) - peopleIds.get(0)).isEqualTo(1L);
+    assertThat(addressIds.get(1) - addressIds.get(0)).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("Address endpoints Should update, list and delete addresses")
+  void testAddressEndpointsShouldUpdateListAndDeleteAddresses() {
+    makePeople("Anderson");
+
+    var location = makeAddress("Anderson")
+        .expectStatus().isCreated()
+        .returnResult(String.class).getResponseHeaders().getLocation();
+
+    webTestClient.get().uri(location)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.publicPlace").isEqualTo("Rua 1");
+
+    webTestClient.put().uri(location + "?name=Anderson&birthDate=20/12/1990")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{\"publicPlace\": \"Rua 2\", \"number\": \"2\", \"city\": \"São Paulo\","
+            + " \"cep\": \"04001-000\"}")
+        .exchange()
+        .expectStatus().isOk();
+
+    webTestClient.get().uri("/api/v1/address/all")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$[0].publicPlace").isEqualTo("Rua 2");
+
+    webTestClient.delete().uri(location + "?name=Anderson&birthDate=20/12/1990")
+        .exchange()
+        .expectStatus().isOk();
+    webTestClient.delete().uri(location + "?name=Anderson&birthDate=20/12/1990")
+        .exchange()
+        .expectStatus().isNotFound();
+
+    webTestClient.get().uri("/api/v1/address?name=Anderson&birthDate=20/12/1990")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .json("[]");
+  }
+
+  @Test
+  @DisplayName("Delete Address Should remove the address matching the body and then return 404")
+  void testDeleteAddressShouldRemoveTheAddressMatchingTheBodyAndThenReturn404() {
+    makePeople("Anderson");
+    makeAddress("Anderson").expectStatus().isCreated();
+
+    deleteAddress("Anderson").expectStatus().isOk();
+    deleteAddress("Anderson")
+        .expectStatus().isNotFound()
+        .expectBody()
+        .jsonPath("$.errors[0]")
+        .isEqualTo("Address with public place: Rua 1, number: 1 and cep: 04001-000-> Not found");
+    deleteAddress("Ana").expectStatus().isNotFound();
+
+    webTestClient.get().uri("/api/v1/address?name=Anderson&birthDate=20/12/1990")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .json("[]");
+  }
+
+  private WebTestClient.ResponseSpec makePeople(String name) {
+    return webTestClient.post().uri("/api/v1/people?name=" + name + "&birthDate=20/12/1990")
+        .exchange();
+  }
+
+  private WebTestClient.ResponseSpec deleteAddress(String name) {
+    return webTestClient.method(HttpMethod.DELETE)
+        .uri("/api/v1/address?name=" + name + "&birthDate=20/12/1990")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{\"publicPlace\": \"Rua 1\", \"number\": \"1\", \"cep\": \"04001-000\"}")
+        .exchange();
+  }
+
+  private WebTestClient.ResponseSpec makeAddress(String name) {
+    return webTestClient.post().uri("/api/v1/address?name=" + name + "&birthDate=20/12/1990")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{\"publicPlace\": \"Rua 1\", \"number\": \"1\", \"city\": \"São Paulo\","
+            + " \"cep\": \"04001-000\"}")
+        .exchange();
+  }
+
+}
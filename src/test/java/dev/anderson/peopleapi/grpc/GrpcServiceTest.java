@@ -0,0 +1,292 @@
+package dev.anderson.peopleapi.grpc;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.catchThrowableOfType;
+
+import com.google.protobuf.Empty;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(properties = {
+    "spring.main.banner-mode=off",
+    "people.grpc.enabled=true",
+    "people.grpc.port=0"
+})
+@AutoConfigureDataJpa
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class GrpcServiceTest {
+
+  @Autowired
+  private PeopleGrpcService peopleGrpcService;
+
+  @Autowired
+  private AddressGrpcService addressGrpcService;
+
+  @Autowired
+  private Server grpcServer;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private Server inProcessServer;
+
+  private ManagedChannel channel;
+
+  private PeopleRpcGrpc.PeopleRpcBlockingStub peopleStub;
+
+  private AddressRpcGrpc.AddressRpcBlockingStub addressStub;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    var name = InProcessServerBuilder.generateName();
+    var exceptionInterceptor = new GrpcExceptionInterceptor();
+
+    inProcessServer = InProcessServerBuilder.forName(name)
+        .directExecutor()
+        .addService(ServerInterceptors.intercept(peopleGrpcService, exceptionInterceptor))
+        .addService(ServerInterceptors.intercept(addressGrpcService, exceptionInterceptor))
+        .build()
+        .start();
+    channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    peopleStub = PeopleRpcGrpc.newBlockingStub(channel);
+    addressStub = AddressRpcGrpc.newBlockingStub(channel);
+  }
+
+  @AfterEach
+  void tearDown() {
+    channel.shutdownNow();
+    inProcessServer.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("gRPC server Should listen beside Tomcat when enabled")
+  void testGrpcServerShouldListenBesideTomcatWhenEnabled() {
+    assertThat(grpcServer.isShutdown()).isFalse();
+    assertThat(grpcServer.getPort()).isGreaterThan(0);
+  }
+
+  @Test
+  @DisplayName("makePeople and findPeople Should reuse the service status codes")
+  void testMakePeopleAndFindPeopleShouldReuseTheServiceStatusCodes() {
+    peopleStub.makePeople(key("Anderson"));
+
+    var people = peopleStub.findPeople(key("Anderson"));
+
+    assertThat(people.getName()).isEqualTo("Anderson");
+    assertThat(people.getBirthDate()).isEqualTo("20/12/1990");
+    assertThat(statusOf(() -> peopleStub.makePeople(key("Anderson"))).getDescription())
+        .isEqualTo("People with name: Anderson and Birth Date: 20/12/1990-> Already Exist");
+    assertThat(statusOf(() -> peopleStub.findPeople(key("Ana"))).getCode())
+        .isEqualTo(Status.Code.NOT_FOUND);
+    assertThat(statusOf(() -> peopleStub.findPeople(
+        PeopleKey.newBuilder().setName("Ana").setBirthDate("invalid date").build())).getCode())
+        .isEqualTo(Status.Code.INVALID_ARGUMENT);
+  }
+
+  @Test
+  @DisplayName("listPeople Should stream every people across batches in name order")
+  void testListPeopleShouldStreamEveryPeopleAcrossBatchesInNameOrder() {
+    for (String name : new String[]{"Pedro", "Ana", "Bruna", "Carla", "Anderson"}) {
+      peopleStub.makePeople(key(name));
+    }
+
+    var names = new ArrayList<String>();
+
+    peopleStub.listPeople(ListPeopleRequest.newBuilder().setBatchSize(2).build())
+        .forEachRemaining(people -> names.add(people.getName()));
+
+    assertThat(names).isEqualTo(List.of("Ana", "Anderson", "Bruna", "Carla", "Pedro"));
+  }
+
+  @Test
+  @DisplayName("listPeople Should fetch batches only as fast as the client reads them")
+  void testListPeopleShouldFetchBatchesOnlyAsFastAsTheClientReadsThem() throws Exception {
+    for (String name : new String[]{"Pedro", "Ana", "Bruna", "Carla", "Anderson"}) {
+      peopleStub.makePeople(key(name));
+    }
+
+    var first = new CompletableFuture<People>();
+
+    PeopleRpcGrpc.newStub(channel).listPeople(
+        ListPeopleRequest.newBuilder().setBatchSize(1).build(),
+        new ClientResponseObserver<ListPeopleRequest, People>() {
+
+          private ClientCallStreamObserver<ListPeopleRequest> requestStream;
+
+          @Override
+          public void beforeStart(ClientCallStreamObserver<ListPeopleRequest> requestStream) {
+            this.requestStream = requestStream;
+            requestStream.disableAutoRequestWithInitial(1);
+          }
+
+          @Override
+          public void onNext(People value) {
+            first.complete(value);
+            requestStream.cancel("Read enough", null);
+          }
+
+          @Override
+          public void onError(Throwable t) {
+          }
+
+          @Override
+          public void onCompleted() {
+          }
+
+        });
+
+    assertThat(first.get(5, TimeUnit.SECONDS).getName()).isEqualTo("Ana");
+    assertThat(meterRegistry.get("people.service").tag("method", "listAfter").timer().count())
+        .isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("updatePeople Should keep unset fields and replacePeople Should reject them")
+  void testUpdatePeopleShouldKeepUnsetFieldsAndReplacePeopleShouldRejectThem() {
+    peopleStub.makePeople(key("Anderson"));
+
+    peopleStub.updatePeople(PeopleUpdate.newBuilder()
+        .setName("Anderson")
+        .setBirthDate("20/12/1990")
+        .setNewName("Ana")
+        .build());
+    assertThat(peopleStub.findPeople(key("Ana")).getBirthDate()).isEqualTo("20/12/1990");
+
+    peopleStub.updatePeople(PeopleUpdate.newBuilder()
+        .setName("Ana")
+        .setBirthDate("20/12/1990")
+        .setNewBirthDate("01/01/1980")
+        .build());
+    assertThat(peopleStub.findPeople(PeopleKey.newBuilder()
+        .setName("Ana")
+        .setBirthDate("01/01/1980")
+        .build()).getName()).isEqualTo("Ana");
+
+    assertThat(statusOf(() -> peopleStub.replacePeople(PeopleUpdate.newBuilder()
+        .setName("Ana")
+        .setBirthDate("01/01/1980")
+        .setNewName("Bruna")
+        .build())).getCode())
+        .isEqualTo(Status.Code.INVALID_ARGUMENT);
+  }
+
+  @Test
+  @DisplayName("makePeopleStream Should create the valid people and report the others")
+  void testMakePeopleStreamShouldCreateTheValidPeopleAndReportTheOthers() throws Exception {
+    var reply = new CompletableFuture<BulkReply>();
+    var requests = PeopleRpcGrpc.newStub(channel).makePeopleStream(observer(reply));
+
+    requests.onNext(key("Anderson"));
+    requests.onNext(key("Anderson"));
+    requests.onNext(PeopleKey.newBuilder().setName("Ana").setBirthDate("invalid date").build());
+    requests.onNext(key("Ana"));
+    requests.onCompleted();
+
+    var bulkReply = reply.get(5, TimeUnit.SECONDS);
+
+    assertThat(bulkReply.getCreated()).isEqualTo(2L);
+    assertThat(bulkReply.getErrorsCount()).isEqualTo(2);
+    assertThat(bulkReply.getErrors(0).getIndex()).isEqualTo(1);
+    assertThat(bulkReply.getErrors(1).getIndex()).isEqualTo(2);
+    assertThat(peopleStub.findPeople(key("Ana")).getName()).isEqualTo("Ana");
+  }
+
+  @Test
+  @DisplayName("Address rpcs Should create, stream, update and delete addresses")
+  void testAddressRpcsShouldCreateStreamUpdateAndDeleteAddresses() throws Exception {
+    peopleStub.makePeople(key("Anderson"));
+
+    var reply = new CompletableFuture<BulkReply>();
+    var requests = AddressRpcGrpc.newStub(channel).makeAddressStream(observer(reply));
+
+    requests.onNext(addressRequest("Anderson", 0, "Rua 1"));
+    requests.onNext(addressRequest("Ana", 0, "Rua 2"));
+    requests.onNext(addressRequest("Anderson", 0, "Rua 3"));
+    requests.onCompleted();
+
+    assertThat(reply.get(5, TimeUnit.SECONDS).getCreated()).isEqualTo(2L);
+
+    var addresses = new ArrayList<Address>();
+
+    addressStub.findAddresses(key("Anderson")).forEachRemaining(addresses::add);
+    assertThat(addresses.size()).isEqualTo(2);
+    assertThat(addresses.get(0).getPublicPlace()).isEqualTo("Rua 1");
+
+    addressStub.updateAddress(addressRequest("Anderson", addresses.get(0).getId(), "Rua 4"));
+    addressStub.deleteAddress(addressRequest("Anderson", addresses.get(1).getId(), ""));
+
+    var listed = new ArrayList<Address>();
+
+    addressStub.listAddresses(Empty.getDefaultInstance()).forEachRemaining(listed::add);
+    assertThat(listed.size()).isEqualTo(1);
+    assertThat(listed.get(0).getPublicPlace()).isEqualTo("Rua 4");
+    assertThat(statusOf(() -> addressStub.deleteAddress(
+        addressRequest("Ana", addresses.get(0).getId(), ""))).getCode())
+        .isEqualTo(Status.Code.NOT_FOUND);
+  }
+
+  private static PeopleKey key(String name) {
+    return PeopleKey.newBuilder().setName(name).setBirthDate("20/12/1990").build();
+  }
+
+  private static AddressRequest addressRequest(String name, long id, String publicPlace) {
+    return AddressRequest.newBuilder()
+        .setPeople(key(name))
+        .setAddress(Address.newBuilder()
+            .setId(id)
+            .setPublicPlace(publicPlace)
+            .setNumber("10")
+            .setCity("São Paulo")
+            .setCep("04001-000"))
+        .build();
+  }
+
+  private static Status statusOf(Runnable call) {
+    return catchThrowableOfType(call::run, StatusRuntimeException.class).getStatus();
+  }
+
+  private static <T> StreamObserver<T> observer(CompletableFuture<T> reply) {
+    return new StreamObserver<>() {
+
+      @Override
+      public void onNext(T value) {
+        reply.complete(value);
+      }
+
+      @Override
+      public void onError(Throwable t) {
+        reply.completeExceptionally(t);
+      }
+
+      @Override
+      public void onCompleted() {
+      }
+
+    };
+  }
+
+}
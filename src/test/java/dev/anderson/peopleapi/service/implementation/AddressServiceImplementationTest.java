@@ -2,13 +2,20 @@ package dev.anderson.peopleapi.service.implementation;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.anderson.peopleapi.domain.DTO.AddressDTO;
+import dev.anderson.peopleapi.domain.DTO.ErrorDTO;
 import dev.anderson.peopleapi.domain.entities.AddressEntity;
 import dev.anderson.peopleapi.domain.entities.PeopleEntity;
+import dev.anderson.peopleapi.repositories.AddressRepository;
 import dev.anderson.peopleapi.repositories.PeopleRepository;
+import jakarta.persistence.EntityManagerFactory;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +38,15 @@ class AddressServiceImplementationTest {
   @Autowired
   private PeopleRepository peopleRepository;
 
+  @Autowired
+  private AddressRepository addressRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
   @Test
   @DisplayName("listAll Should return status code 200")
   void testListAllShouldReturnStatusCode200() {
@@ -41,7 +57,7 @@ class AddressServiceImplementationTest {
 
   @Test
   @DisplayName("listAll Should return json with all addresses")
-  void testListAllShouldReturnJsonWithAllAddresses() {
+  void testListAllShouldReturnJsonWithAllAddresses() throws JsonProcessingException {
     var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
     var addressEntity = new AddressEntity("Rua 1", "1", "São Paulo", "04001-000");
     var peopleEntity = new PeopleEntity("Anderson", birthDate, List.of(addressEntity));
@@ -49,19 +65,40 @@ class AddressServiceImplementationTest {
     peopleRepository.save(peopleEntity);
 
     var response = addressServiceImplementation.listAll();
+    var json = objectMapper.writeValueAsString(response.getBody());
 
-    assertThat(response.getBody().toString()).contains("Rua 1");
-    assertThat(response.getBody().toString()).contains("1");
-    assertThat(response.getBody().toString()).contains("São Paulo");
-    assertThat(response.getBody().toString()).contains("04001-000");
+    assertThat(json).contains("Rua 1");
+    assertThat(json).contains("1");
+    assertThat(json).contains("São Paulo");
+    assertThat(json).contains("04001-000");
   }
 
   @Test
   @DisplayName("listAll Should return empty json")
-  void testListAllShouldReturnEmptyJson() {
+  void testListAllShouldReturnEmptyJson() throws JsonProcessingException {
     var response = addressServiceImplementation.listAll();
 
-    assertThat(response.getBody().toString()).isEqualTo("[]");
+    assertThat(objectMapper.writeValueAsString(response.getBody())).isEqualTo("[]");
+  }
+
+  @Test
+  @DisplayName("listAll Should stream addresses of every people")
+  void testListAllShouldStreamAddressesOfEveryPeople() throws JsonProcessingException {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+
+    for (int i = 0; i < 5; i++) {
+      var addresses = List.of(
+          new AddressEntity("Rua " + i, "1", "São Paulo", "04001-000"),
+          new AddressEntity("Rua " + i, "2", "São Paulo", "04001-000"));
+
+      peopleRepository.save(new PeopleEntity("Anderson" + i, birthDate, addresses));
+    }
+
+    var addressList = objectMapper.readValue(
+        objectMapper.writeValueAsString(addressServiceImplementation.listAll().getBody()),
+        AddressDTO[].class);
+
+    assertThat(addressList.length).isEqualTo(10);
   }
 
   @Test
@@ -106,15 +143,13 @@ class AddressServiceImplementationTest {
   }
 
   @Test
-  @DisplayName("findAddress should throw exception when people not found")
-  void testFindAddressShouldThrowExceptionWhenPeopleNotFound() {
-    try {
-      var response = addressServiceImplementation.findAddress("Anderson", "20/12/1990");
-    } catch (Exception e) {
-      assertThat(e.getMessage()).isEqualTo(
-          "People with name: Anderson and Birth Date: 20/12/1990-> Not found"
-      );
-    }
+  @DisplayName("findAddress should return status code 404 when people not found")
+  void testFindAddressShouldReturnStatusCode404WhenPeopleNotFound() {
+    var response = addressServiceImplementation.findAddress("Anderson", "20/12/1990");
+
+    assertThat(response.getStatusCode().value()).isEqualTo(404);
+    assertThat(response.getBody()).isEqualTo(ErrorDTO.of(
+        "People with name: Anderson and Birth Date: 20/12/1990-> Not found"));
   }
 
   @Test
@@ -129,22 +164,87 @@ class AddressServiceImplementationTest {
   }
 
   @Test
-  @DisplayName("makeAddress Should throw exception when people not found")
-  void testMakeAddressShouldThrowExceptionWhenPeopleNotFound() {
-    try {
-      var addressDTO = new AddressDTO("Rua 1", "1", "São Paulo", "04001-000");
-      var response = addressServiceImplementation.makeAddress("Anderson", "20/12/1990", addressDTO);
-    } catch (Exception e) {
-      assertThat(e.getMessage()).isEqualTo(
-          "People with name: Anderson and Birth Date: 20/12/1990-> Not found"
-      );
-    }
+  @DisplayName("makeAddress Should return the new address id without loading existing addresses")
+  void testMakeAddressShouldReturnTheNewAddressIdWithoutLoadingExistingAddresses() {
+    makeTempPeopleWithAddresses();
+    var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+    var addressDTO = new AddressDTO("Rua 3", "3", "São Paulo", "04001-000");
+    var response = addressServiceImplementation.makeAddress("Anderson", "20/12/1990", addressDTO);
+    var body = (AddressDTO) response.getBody();
+
+    assertThat(statistics.getCollectionLoadCount()).isEqualTo(0);
+    assertThat(statistics.getEntityLoadCount()).isEqualTo(0);
+    assertThat(response.getHeaders().getLocation().toString())
+        .isEqualTo("/api/v1/address/" + body.id());
+    assertThat(addressRepository.findById(body.id()).get().getPublicPlace()).isEqualTo("Rua 3");
+    assertThat(peopleRepository.findWithAddressesByNameAndBirthDate("Anderson", LocalDate.parse(
+        "20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"))).get().getAddresses().size())
+        .isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("makeAddress Should invalidate cached addresses")
+  void testMakeAddressShouldInvalidateCachedAddresses() {
+    makeTempPeople();
+    addressServiceImplementation.findAddress("Anderson", "20/12/1990");
+
+    var addressDTO = new AddressDTO("Rua 1", "1", "São Paulo", "04001-000");
+    addressServiceImplementation.makeAddress("Anderson", "20/12/1990", addressDTO);
+
+    var response = addressServiceImplementation.findAddress("Anderson", "20/12/1990");
+
+    assertThat(response.getBody().toString()).contains("Rua 1");
+  }
+
+  @Test
+  @DisplayName("findAddress Should answer 304 when the tag matches")
+  void testFindAddressShouldAnswer304WhenTheTagMatches() {
+    makeTempPeople();
+    var etag = addressServiceImplementation.findAddress("Anderson", "20/12/1990")
+        .getHeaders().getETag();
+
+    var response = addressServiceImplementation.findAddress("Anderson", "20/12/1990", etag);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(304);
+    assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+  }
+
+  @Test
+  @DisplayName("Address changes Should bump the people version")
+  void testAddressChangesShouldBumpThePeopleVersion() {
+    makeTempPeople();
+    var addressDTO = new AddressDTO("Rua 1", "1", "São Paulo", "04001-000");
+    var etag = addressServiceImplementation.findAddress("Anderson", "20/12/1990")
+        .getHeaders().getETag();
+
+    addressServiceImplementation.makeAddress("Anderson", "20/12/1990", addressDTO);
+    var afterMake = addressServiceImplementation.findAddress("Anderson", "20/12/1990", etag);
+    addressServiceImplementation.deleteAddress("Anderson", "20/12/1990", addressDTO);
+    var afterDelete = addressServiceImplementation.findAddress(
+        "Anderson", "20/12/1990", afterMake.getHeaders().getETag());
+
+    assertThat(afterMake.getStatusCode().value()).isEqualTo(200);
+    assertThat(afterDelete.getStatusCode().value()).isEqualTo(200);
+    assertThat(peopleRepository.findAll().get(0).getVersion()).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("makeAddress Should return status code 404 when people not found")
+  void testMakeAddressShouldReturnStatusCode404WhenPeopleNotFound() {
+    var addressDTO = new AddressDTO("Rua 1", "1", "São Paulo", "04001-000");
+    var response = addressServiceImplementation.makeAddress("Anderson", "20/12/1990", addressDTO);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(404);
+    assertThat(response.getBody()).isEqualTo(ErrorDTO.of(
+        "People with name: Anderson and Birth Date: 20/12/1990-> Not found"));
   }
 
   @Test
   @DisplayName("deleteAddress Should return status code 200")
   void testDeleteAddressShouldReturnStatusCode200() {
-    makeTempPeople();
+    makeTempPeopleWithAddresses();
 
     var addressDTO = new AddressDTO("Rua 1", "1", "São Paulo", "04001-000");
     var response = addressServiceImplementation.deleteAddress("Anderson", "20/12/1990", addressDTO);
@@ -153,17 +253,170 @@ class AddressServiceImplementationTest {
   }
 
   @Test
-  @DisplayName("deleteAddress Should throw exception when people not found")
-  void testDeleteAddressShouldThrowExceptionWhenPeopleNotFound() {
-    try {
-      var addressDTO = new AddressDTO("Rua 1", "1", "São Paulo", "04001-000");
-      var response = addressServiceImplementation.deleteAddress("Anderson", "20/12/1990",
-          addressDTO);
-    } catch (Exception e) {
-      assertThat(e.getMessage()).isEqualTo(
-          "People with name: Anderson and Birth Date: 20/12/1990-> Not found"
-      );
-    }
+  @DisplayName("deleteAddress Should return status code 404 when people not found")
+  void testDeleteAddressShouldReturnStatusCode404WhenPeopleNotFound() {
+    var addressDTO = new AddressDTO("Rua 1", "1", "São Paulo", "04001-000");
+    var response = addressServiceImplementation.deleteAddress("Anderson", "20/12/1990",
+        addressDTO);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(404);
+    assertThat(response.getBody()).isEqualTo(ErrorDTO.of(
+        "People with name: Anderson and Birth Date: 20/12/1990-> Not found"));
+  }
+
+  @Test
+  @DisplayName("deleteAddress Should remove only the matching address")
+  void testDeleteAddressShouldRemoveOnlyTheMatchingAddress() {
+    makeTempPeopleWithAddresses();
+
+    var addressDTO = new AddressDTO("Rua 1", "1", "São Paulo", "04001-000");
+    addressServiceImplementation.deleteAddress("Anderson", "20/12/1990", addressDTO);
+
+    var addresses = addressRepository.findAll();
+
+    assertThat(addresses.size()).isEqualTo(1);
+    assertThat(addresses.get(0).getPublicPlace()).isEqualTo("Rua 2");
+  }
+
+  @Test
+  @DisplayName("deleteAddress by id Should not remove an address of another people")
+  void testDeleteAddressByIdShouldNotRemoveAnAddressOfAnotherPeople() {
+    var addressId = makeTempPeopleWithAddresses();
+    peopleRepository.save(new PeopleEntity("Ana",
+        LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"))));
+
+    var response = addressServiceImplementation.deleteAddress("Ana", "20/12/1990", addressId);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(404);
+    assertThat(response.getBody())
+        .isEqualTo(ErrorDTO.of("Address with id: " + addressId + "-> Not found"));
+    assertThat(addressRepository.existsById(addressId)).isTrue();
+  }
+
+  @Test
+  @DisplayName("deleteAddress Should return status code 404 when no address matches")
+  void testDeleteAddressShouldReturnStatusCode404WhenNoAddressMatches() {
+    makeTempPeopleWithAddresses();
+
+    var addressDTO = new AddressDTO("Rua 3", "3", "São Paulo", "04001-000");
+    var response = addressServiceImplementation.deleteAddress("Anderson", "20/12/1990",
+        addressDTO);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(404);
+    assertThat(response.getBody()).isEqualTo(ErrorDTO.of(
+        "Address with public place: Rua 3, number: 3 and cep: 04001-000-> Not found"));
+    assertThat(addressRepository.count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("updateAddress Should change the matching address in place")
+  void testUpdateAddressShouldChangeTheMatchingAddressInPlace() {
+    var addressId = makeTempPeopleWithAddresses();
+
+    var oldAddressDTO = new AddressDTO("Rua 1", "1", null, "04001-000");
+    var addressDTO = new AddressDTO("Rua Amelia", "1254", "São Paulo", "04181-150");
+    var response = addressServiceImplementation.updateAddress(
+        "Anderson", "20/12/1990", oldAddressDTO, addressDTO);
+    var addressEntity = addressRepository.findById(addressId).get();
+
+    assertThat(response.getStatusCode().value()).isEqualTo(200);
+    assertThat(addressEntity.getPublicPlace()).isEqualTo("Rua Amelia");
+    assertThat(addressEntity.getCep()).isEqualTo("04181-150");
+  }
+
+  @Test
+  @DisplayName("updateAddress by id Should return status code 404 when address not found")
+  void testUpdateAddressByIdShouldReturnStatusCode404WhenAddressNotFound() {
+    makeTempPeople();
+
+    var addressDTO = new AddressDTO("Rua Amelia", "1254", "São Paulo", "04181-150");
+    var response = addressServiceImplementation.updateAddress(
+        "Anderson", "20/12/1990", 99L, addressDTO);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(404);
+    assertThat(response.getBody()).isEqualTo(ErrorDTO.of("Address with id: 99-> Not found"));
+  }
+
+  @Test
+  @DisplayName("listByCep and listByCity Should return status code 400 when size is out of range")
+  void testListByCepAndListByCityShouldReturnStatusCode400WhenSizeIsOutOfRange() {
+    assertThat(addressServiceImplementation.listByCep("0400", "", 0).getStatusCode().value())
+        .isEqualTo(400);
+    assertThat(addressServiceImplementation.listByCity("Recife", "", -1).getStatusCode().value())
+        .isEqualTo(400);
+    assertThat(addressServiceImplementation.listByCity("Recife", "", 1001).getBody())
+        .isEqualTo(ErrorDTO.of("Size must be between 1 and 1000"));
+  }
+
+  @Test
+  @DisplayName("listAfterId Should return status code 400 when size is out of range")
+  void testListAfterIdShouldReturnStatusCode400WhenSizeIsOutOfRange() {
+    assertThat(addressServiceImplementation.listAfterId(0L, 0).getStatusCode().value())
+        .isEqualTo(400);
+    assertThat(addressServiceImplementation.listAfterId(0L, 1001).getBody())
+        .isEqualTo(ErrorDTO.of("Size must be between 1 and 1000"));
+    assertThat(addressServiceImplementation.listAfterId(0L, 1000).getStatusCode().value())
+        .isEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("listByCep Should page through addresses with the cep prefix and their owners")
+  void testListByCepShouldPageThroughAddressesWithTheCepPrefixAndTheirOwners() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+    peopleRepository.save(new PeopleEntity("Anderson", birthDate, new ArrayList<>(List.of(
+        new AddressEntity("Rua 1", "1", "São Paulo", "04002-000"),
+        new AddressEntity("Rua 2", "2", "São Paulo", "05001-000")))));
+    peopleRepository.save(new PeopleEntity("Ana", birthDate, new ArrayList<>(List.of(
+        new AddressEntity("Rua 3", "3", "São Paulo", "04001-000")))));
+
+    var firstPage = addressServiceImplementation.listByCep("0400", "", 1);
+    var secondPage = addressServiceImplementation.listByCep(
+        "0400", firstPage.getHeaders().getFirst("x-next-cursor"), 1);
+    var first = ((List<?>) firstPage.getBody()).get(0);
+    var second = ((List<?>) secondPage.getBody()).get(0);
+
+    assertThat(first.toString()).contains("04001-000").contains("Ana");
+    assertThat(second.toString()).contains("04002-000").contains("Anderson");
+    assertThat(((List<?>) secondPage.getBody()).size()).isEqualTo(1);
+    assertThat(secondPage.getHeaders().containsKey("x-next-cursor")).isFalse();
+  }
+
+  @Test
+  @DisplayName("listByCep Should treat wildcards in the prefix literally")
+  void testListByCepShouldTreatWildcardsInThePrefixLiterally() {
+    makeTempPeopleWithAddresses();
+
+    var response = addressServiceImplementation.listByCep("0400_", "", 10);
+
+    assertThat(response.getBody().toString()).isEqualTo("[]");
+  }
+
+  @Test
+  @DisplayName("listByCity Should return only addresses in the city")
+  void testListByCityShouldReturnOnlyAddressesInTheCity() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+    peopleRepository.save(new PeopleEntity("Anderson", birthDate, new ArrayList<>(List.of(
+        new AddressEntity("Rua 1", "1", "São Paulo", "04001-000"),
+        new AddressEntity("Rua 2", "2", "Campinas", "13010-000"),
+        new AddressEntity("Rua 3", "3", "São Paulo", "04002-000")))));
+
+    var firstPage = addressServiceImplementation.listByCity("São Paulo", "", 1);
+    var secondPage = addressServiceImplementation.listByCity(
+        "São Paulo", firstPage.getHeaders().getFirst("x-next-cursor"), 1);
+
+    assertThat(firstPage.getBody().toString()).contains("Rua 1");
+    assertThat(secondPage.getBody().toString()).contains("Rua 3");
+    assertThat(secondPage.getHeaders().containsKey("x-next-cursor")).isFalse();
+  }
+
+  Long makeTempPeopleWithAddresses() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+    var addressEntity = new AddressEntity("Rua 1", "1", "São Paulo", "04001-000");
+    var peopleEntity = new PeopleEntity("Anderson", birthDate, new ArrayList<>(List.of(
+        addressEntity, new AddressEntity("Rua 2", "2", "São Paulo", "04001-000"))));
+
+    peopleRepository.save(peopleEntity);
+    return addressEntity.getId();
   }
 
   void makeTempPeople() {
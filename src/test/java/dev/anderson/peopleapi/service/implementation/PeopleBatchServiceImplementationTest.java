@@ -0,0 +1,191 @@
+package dev.anderson.peopleapi.service.implementation;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import dev.anderson.peopleapi.domain.DTO.BatchItemDTO;
+import dev.anderson.peopleapi.domain.DTO.BatchReportDTO;
+import dev.anderson.peopleapi.domain.DTO.ErrorDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleInputDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleKeyDTO;
+import dev.anderson.peopleapi.domain.entities.AddressEntity;
+import dev.anderson.peopleapi.domain.entities.PeopleEntity;
+import dev.anderson.peopleapi.repositories.AddressRepository;
+import dev.anderson.peopleapi.repositories.PeopleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(properties = {
+    "spring.main.banner-mode=off",
+    "people.batch.chunk-size=2",
+    "people.batch.max-items=5"
+})
+@AutoConfigureDataJpa
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class PeopleBatchServiceImplementationTest {
+
+  private static final LocalDate BIRTH_DATE =
+      LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+
+  @Autowired
+  private PeopleBatchServiceImplementation peopleBatchServiceImplementation;
+
+  @Autowired
+  private PeopleRepository peopleRepository;
+
+  @Autowired
+  private AddressRepository addressRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  @DisplayName("updatePeople Should report the outcome of every item across chunks")
+  void testUpdatePeopleShouldReportTheOutcomeOfEveryItemAcrossChunks() {
+    makeTempPeople("Ana", "Anderson", "Pedro");
+
+    var response = peopleBatchServiceImplementation.updatePeople(List.of(
+        new PeopleInputDTO("Ana", "20/12/1990", "Ana Maria", ""),
+        new PeopleInputDTO("Bruna", "20/12/1990", "Bruna", "01/01/2000"),
+        new PeopleInputDTO("Pedro", "invalid date", "", ""),
+        new PeopleInputDTO("Pedro", "20/12/1990", "Anderson", ""),
+        new PeopleInputDTO("Anderson", "20/12/1990", "", "01/01/2000")));
+    var report = (BatchReportDTO) response.getBody();
+
+    assertThat(response.getStatusCode().value()).isEqualTo(200);
+    assertThat(report.succeeded()).isEqualTo(2);
+    assertThat(report.items().stream().map(BatchItemDTO::status).toList())
+        .isEqualTo(List.of(200, 404, 400, 400, 200));
+    assertThat(report.items().get(3).errors()).isEqualTo(List.of(
+        "People with name: Anderson and Birth Date: 20/12/1990-> Already Exist"));
+    assertThat(peopleRepository.findByNameAndBirthDate("Ana Maria", BIRTH_DATE)).isPresent();
+    assertThat(peopleRepository.findByNameAndBirthDate("Anderson", LocalDate.of(2000, 1, 1)))
+        .isPresent();
+  }
+
+  @Test
+  @DisplayName("replacePeople Should reject items without the new name and birth date")
+  void testReplacePeopleShouldRejectItemsWithoutTheNewNameAndBirthDate() {
+    makeTempPeople("Ana");
+
+    var response = peopleBatchServiceImplementation.replacePeople(List.of(
+        new PeopleInputDTO("Ana", "20/12/1990", "Ana Maria", "")));
+    var report = (BatchReportDTO) response.getBody();
+
+    assertThat(report.items().get(0)).isEqualTo(new BatchItemDTO(0, 400,
+        List.of("newName and newBirthDate are required")));
+    assertThat(peopleRepository.findByNameAndBirthDate("Ana", BIRTH_DATE)).isPresent();
+  }
+
+  @Test
+  @DisplayName("deletePeople Should remove people and addresses with bulk statements per chunk")
+  void testDeletePeopleShouldRemovePeopleAndAddressesWithBulkStatementsPerChunk() {
+    makeTempPeople("Ana", "Anderson", "Pedro");
+    var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+    var response = peopleBatchServiceImplementation.deletePeople(List.of(
+        new PeopleKeyDTO("Ana", "20/12/1990"),
+        new PeopleKeyDTO("Ana", "20/12/1990"),
+        new PeopleKeyDTO("Anderson", "20/12/1990"),
+        new PeopleKeyDTO("Pedro", "20/12/1990")));
+    var statements = statistics.getPrepareStatementCount();
+    var report = (BatchReportDTO) response.getBody();
+
+    assertThat(report.succeeded()).isEqualTo(3);
+    assertThat(report.items().get(1).status()).isEqualTo(404);
+    assertThat(peopleRepository.count()).isEqualTo(0);
+    assertThat(addressRepository.count()).isEqualTo(0);
+    assertThat(statements).isEqualTo(6);
+  }
+
+  @Test
+  @DisplayName("updatePeople Should apply a chain of renames in item order within a chunk")
+  void testUpdatePeopleShouldApplyAChainOfRenamesInItemOrderWithinAChunk() {
+    makeTempPeople("Ana", "Bruna");
+
+    var response = peopleBatchServiceImplementation.updatePeople(List.of(
+        new PeopleInputDTO("Bruna", "20/12/1990", "Carla", ""),
+        new PeopleInputDTO("Ana", "20/12/1990", "Bruna", "")));
+    var report = (BatchReportDTO) response.getBody();
+
+    assertThat(report.succeeded()).isEqualTo(2);
+    assertThat(peopleRepository.findByNameAndBirthDate("Carla", BIRTH_DATE)).isPresent();
+    assertThat(peopleRepository.findByNameAndBirthDate("Bruna", BIRTH_DATE)).isPresent();
+    assertThat(peopleRepository.findByNameAndBirthDate("Ana", BIRTH_DATE)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("replacePeople Should reject an unchanged key like the single replace")
+  void testReplacePeopleShouldRejectAnUnchangedKeyLikeTheSingleReplace() {
+    makeTempPeople("Ana");
+
+    var replaced = peopleBatchServiceImplementation.replacePeople(List.of(
+        new PeopleInputDTO("Ana", "20/12/1990", "Ana", "20/12/1990")));
+    var updated = peopleBatchServiceImplementation.updatePeople(List.of(
+        new PeopleInputDTO("Ana", "20/12/1990", "Ana", "20/12/1990")));
+
+    assertThat(((BatchReportDTO) replaced.getBody()).items().get(0)).isEqualTo(new BatchItemDTO(
+        0, 400, List.of("People with name: Ana and Birth Date: 20/12/1990-> Already Exist")));
+    assertThat(((BatchReportDTO) updated.getBody()).items().get(0).status()).isEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("Batch writes Should report null items as 400 and the others as usual")
+  void testBatchWritesShouldReportNullItemsAs400AndTheOthersAsUsual() {
+    makeTempPeople("Ana", "Pedro");
+
+    var updated = peopleBatchServiceImplementation.updatePeople(Arrays.asList(
+        null, new PeopleInputDTO("Ana", "20/12/1990", "Ana Maria", "")));
+    var deleted = peopleBatchServiceImplementation.deletePeople(Arrays.asList(
+        new PeopleKeyDTO("Pedro", "20/12/1990"), null));
+    var updateReport = (BatchReportDTO) updated.getBody();
+    var deleteReport = (BatchReportDTO) deleted.getBody();
+
+    assertThat(updateReport.items().get(0)).isEqualTo(new BatchItemDTO(0, 400,
+        List.of("name and birthDate are required")));
+    assertThat(updateReport.items().get(1).status()).isEqualTo(200);
+    assertThat(deleteReport.items().get(0).status()).isEqualTo(200);
+    assertThat(deleteReport.items().get(1)).isEqualTo(new BatchItemDTO(1, 400,
+        List.of("name and birthDate are required")));
+  }
+
+  @Test
+  @DisplayName("Batch writes Should return status code 400 when there are too many items")
+  void testBatchWritesShouldReturnStatusCode400WhenThereAreTooManyItems() {
+    var peopleKeys = new ArrayList<PeopleKeyDTO>();
+    var peopleInputs = new ArrayList<PeopleInputDTO>();
+
+    for (int i = 0; i <= 5; i++) {
+      peopleKeys.add(new PeopleKeyDTO("Anderson" + i, "20/12/1990"));
+      peopleInputs.add(new PeopleInputDTO("Anderson" + i, "20/12/1990", "Ana" + i, ""));
+    }
+
+    var deleted = peopleBatchServiceImplementation.deletePeople(peopleKeys);
+    var updated = peopleBatchServiceImplementation.updatePeople(peopleInputs);
+
+    assertThat(deleted.getStatusCode().value()).isEqualTo(400);
+    assertThat(deleted.getBody()).isEqualTo(ErrorDTO.of("Batch accepts at most 5 items"));
+    assertThat(updated.getStatusCode().value()).isEqualTo(400);
+  }
+
+  void makeTempPeople(String... names) {
+    for (String name : names) {
+      var addresses = List.of(new AddressEntity("Rua 1", "1", "São Paulo", "04001-000"));
+      peopleRepository.save(new PeopleEntity(name, BIRTH_DATE, addresses));
+    }
+  }
+
+}
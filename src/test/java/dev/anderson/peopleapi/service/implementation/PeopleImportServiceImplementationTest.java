@@ -0,0 +1,126 @@
+package dev.anderson.peopleapi.service.implementation;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import dev.anderson.peopleapi.domain.DTO.ImportReportDTO;
+import dev.anderson.peopleapi.domain.entities.PeopleEntity;
+import dev.anderson.peopleapi.repositories.PeopleRepository;
+import dev.anderson.peopleapi.search.NameIndex;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(properties = {
+    "spring.main.banner-mode=off",
+    "people.import.chunk-size=2"
+})
+@AutoConfigureDataJpa
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class PeopleImportServiceImplementationTest {
+
+  @Autowired
+  private PeopleImportServiceImplementation peopleImportServiceImplementation;
+
+  @Autowired
+  private PeopleRepository peopleRepository;
+
+  @Autowired
+  private NameIndex nameIndex;
+
+  @Test
+  @DisplayName("importPeople Should return status code 200")
+  void testImportPeopleShouldReturnStatusCode200() throws IOException {
+    var response = peopleImportServiceImplementation.importPeople(ndjson(""));
+
+    assertThat(response.getStatusCode().value()).isEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("importPeople Should save people and addresses across chunks")
+  void testImportPeopleShouldSavePeopleAndAddressesAcrossChunks() throws IOException {
+    var response = peopleImportServiceImplementation.importPeople(ndjson(
+        "{\"name\": \"Ana\", \"birthDate\": \"20/12/1990\"}\n"
+            + "{\"name\": \"Anderson\", \"birthDate\": \"20/12/1990\", \"addressDTO\": ["
+            + "{\"publicPlace\": \"Rua 1\", \"number\": \"1\", \"city\": \"São Paulo\","
+            + " \"cep\": \"04001-000\"}]}\n"
+            + "{\"name\": \"Pedro\", \"birthDate\": \"01/01/2000\"}\n"
+    ));
+    var report = (ImportReportDTO) response.getBody();
+    var anderson = peopleRepository.findWithAddressesByNameAndBirthDate("Anderson",
+        LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy")));
+
+    assertThat(report.imported()).isEqualTo(3);
+    assertThat(report.errors().isEmpty()).isTrue();
+    assertThat(peopleRepository.count()).isEqualTo(3);
+    assertThat(anderson.get().getAddresses().size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("importPeople Should make imported people searchable")
+  void testImportPeopleShouldMakeImportedPeopleSearchable() throws IOException {
+    peopleImportServiceImplementation.importPeople(ndjson(
+        "{\"name\": \"Ana\", \"birthDate\": \"20/12/1990\"}\n"
+            + "{\"name\": \"Anderson\", \"birthDate\": \"20/12/1990\"}\n"
+            + "{\"name\": \"Pedro\", \"birthDate\": \"01/01/2000\"}\n"
+    ));
+
+    assertThat(nameIndex.search("an", null, 10).size()).isEqualTo(2);
+    assertThat(nameIndex.search("pe", null, 10).get(0).name()).isEqualTo("Pedro");
+  }
+
+  @Test
+  @DisplayName("importPeople Should report invalid lines and keep importing")
+  void testImportPeopleShouldReportInvalidLinesAndKeepImporting() throws IOException {
+    var response = peopleImportServiceImplementation.importPeople(ndjson(
+        "{\"name\": \"Ana\", \"birthDate\": \"invalid date\"}\n"
+            + "not json\n"
+            + "\n"
+            + "{\"birthDate\": \"20/12/1990\"}\n"
+            + "{\"name\": \"Pedro\", \"birthDate\": \"01/01/2000\"}\n"
+    ));
+    var report = (ImportReportDTO) response.getBody();
+
+    assertThat(report.imported()).isEqualTo(1);
+    assertThat(report.errors().size()).isEqualTo(3);
+    assertThat(report.errors().get(0).line()).isEqualTo(1);
+    assertThat(report.errors().get(1).line()).isEqualTo(2);
+    assertThat(report.errors().get(2).line()).isEqualTo(4);
+    assertThat(report.errors().get(2).error()).isEqualTo("name is required");
+  }
+
+  @Test
+  @DisplayName("importPeople Should report people that already exist")
+  void testImportPeopleShouldReportPeopleThatAlreadyExist() throws IOException {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+
+    peopleRepository.save(new PeopleEntity("Ana", birthDate));
+
+    var response = peopleImportServiceImplementation.importPeople(ndjson(
+        "{\"name\": \"Ana\", \"birthDate\": \"20/12/1990\"}\n"
+            + "{\"name\": \"Pedro\", \"birthDate\": \"01/01/2000\"}\n"
+            + "{\"name\": \"Pedro\", \"birthDate\": \"1/01/2000\"}\n"
+    ));
+    var report = (ImportReportDTO) response.getBody();
+
+    assertThat(report.imported()).isEqualTo(1);
+    assertThat(report.errors().get(0).error()).isEqualTo(
+        "People with name: Ana and Birth Date: 20/12/1990-> Already Exist");
+    assertThat(report.errors().get(1).line()).isEqualTo(3);
+    assertThat(peopleRepository.count()).isEqualTo(2);
+  }
+
+  private ByteArrayInputStream ndjson(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
@@ -1,24 +1,47 @@
 package dev.anderson.peopleapi.service.implementation;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
+import dev.anderson.peopleapi.cache.CachedJson;
+import dev.anderson.peopleapi.cache.ResponseCache;
+import dev.anderson.peopleapi.domain.DTO.ErrorDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleDTO;
 import dev.anderson.peopleapi.domain.DTO.PeopleInputDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleKeyDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleLookupDTO;
+import dev.anderson.peopleapi.domain.DTO.PeopleSummaryDTO;
+import dev.anderson.peopleapi.domain.PeopleKey;
+import dev.anderson.peopleapi.domain.entities.AddressEntity;
 import dev.anderson.peopleapi.domain.entities.PeopleEntity;
-import dev.anderson.peopleapi.exceptions.UserExistsException;
-import dev.anderson.peopleapi.exceptions.UserNotFoundException;
+import dev.anderson.peopleapi.exceptions.InvalidCursorException;
 import dev.anderson.peopleapi.repositories.PeopleRepository;
+import dev.anderson.peopleapi.search.NameIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
 
-@SpringBootTest(properties = "spring.main.banner-mode=off")
+@SpringBootTest(properties = {
+    "spring.main.banner-mode=off",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
 @AutoConfigureDataJpa
 @AutoConfigureTestDatabase
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -30,6 +53,18 @@ class PeopleServiceImplementationTest {
   @Autowired
   private PeopleRepository peopleRepository;
 
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private ResponseCache responseCache;
+
+  @Autowired
+  private NameIndex nameIndex;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
   @Test
   @DisplayName("listAll Should return status code 200")
   void testListAllShouldReturnStatusCode200() {
@@ -127,6 +162,116 @@ class PeopleServiceImplementationTest {
     assertThat(response.getHeaders().get("x-total-count").get(0)).isEqualTo("3");
   }
 
+  @Test
+  @DisplayName("listAll Should run the same number of statements whatever the page size")
+  void testListAllShouldRunTheSameNumberOfStatementsWhateverThePageSize() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+
+    for (int i = 0; i < 20; i++) {
+      var addresses = List.of(
+          new AddressEntity("Rua " + i, "1", "São Paulo", "04001-000"),
+          new AddressEntity("Rua " + i, "2", "São Paulo", "04001-000"));
+
+      peopleRepository.save(new PeopleEntity("Anderson" + i, birthDate, addresses));
+    }
+
+    var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+    var smallPage = peopleServiceImplementation.listAll(0, 2);
+    var smallPageStatements = statistics.getPrepareStatementCount();
+
+    statistics.clear();
+    var largePage = peopleServiceImplementation.listAll(0, 20);
+    var largePageStatements = statistics.getPrepareStatementCount();
+
+    assertThat(smallPage.getBody().toString()).contains("Rua 0");
+    assertThat(largePage.getBody().toString()).contains("Rua 19");
+    assertThat(largePageStatements).isEqualTo(smallPageStatements);
+  }
+
+  @Test
+  @DisplayName("listAfter Should run the same number of statements whatever the page size")
+  void testListAfterShouldRunTheSameNumberOfStatementsWhateverThePageSize() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+
+    for (int i = 0; i < 20; i++) {
+      var addresses = List.of(new AddressEntity("Rua " + i, "1", "São Paulo", "04001-000"));
+
+      peopleRepository.save(new PeopleEntity("Anderson" + i, birthDate, addresses));
+    }
+
+    var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+    peopleServiceImplementation.listAfter("", 2);
+    var smallPageStatements = statistics.getPrepareStatementCount();
+
+    statistics.clear();
+    peopleServiceImplementation.listAfter("", 19);
+    var largePageStatements = statistics.getPrepareStatementCount();
+
+    assertThat(largePageStatements).isEqualTo(smallPageStatements);
+  }
+
+  @Test
+  @DisplayName("listAfter Should return first page with next cursor")
+  void testListAfterShouldReturnFirstPageWithNextCursor() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+
+    peopleRepository.save(new PeopleEntity("Pedro", birthDate));
+    peopleRepository.save(new PeopleEntity("Ana", birthDate));
+    peopleRepository.save(new PeopleEntity("Anderson", birthDate));
+
+    var response = peopleServiceImplementation.listAfter("", 2);
+
+    assertThat(response.getBody().toString()).contains("Ana");
+    assertThat(response.getBody().toString()).contains("Anderson");
+    assertThat(response.getBody().toString()).doesNotContain("Pedro");
+    assertThat(response.getHeaders().get("x-next-cursor")).isNotNull();
+  }
+
+  @Test
+  @DisplayName("listAfter Should continue from cursor until last page")
+  void testListAfterShouldContinueFromCursorUntilLastPage() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+    var otherBirthDate = LocalDate.parse("01/01/2000", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+
+    peopleRepository.save(new PeopleEntity("Ana", birthDate));
+    peopleRepository.save(new PeopleEntity("Ana", otherBirthDate));
+    peopleRepository.save(new PeopleEntity("Pedro", birthDate));
+
+    var firstPage = peopleServiceImplementation.listAfter("", 1);
+    var secondPage = peopleServiceImplementation.listAfter(
+        firstPage.getHeaders().getFirst("x-next-cursor"), 1);
+    var lastPage = peopleServiceImplementation.listAfter(
+        secondPage.getHeaders().getFirst("x-next-cursor"), 1);
+
+    assertThat(firstPage.getBody().toString()).contains("20/12/1990");
+    assertThat(secondPage.getBody().toString()).contains("01/01/2000");
+    assertThat(lastPage.getBody().toString()).contains("Pedro");
+    assertThat(lastPage.getHeaders().get("x-next-cursor")).isNull();
+  }
+
+  @Test
+  @DisplayName("listAfter Should throw exception when cursor is invalid")
+  void testListAfterShouldThrowExceptionWhenCursorIsInvalid() {
+    assertThatThrownBy(() -> peopleServiceImplementation.listAfter("invalid cursor", 2))
+        .isInstanceOf(InvalidCursorException.class)
+        .hasMessage("Cursor: invalid cursor-> Invalid");
+  }
+
+  @Test
+  @DisplayName("listAfter Should return status code 400 when size is out of range")
+  void testListAfterShouldReturnStatusCode400WhenSizeIsOutOfRange() {
+    assertThat(peopleServiceImplementation.listAfter("", 0).getStatusCode().value())
+        .isEqualTo(400);
+    assertThat(peopleServiceImplementation.listAfter("", -1).getStatusCode().value())
+        .isEqualTo(400);
+    assertThat(peopleServiceImplementation.listAfter("", 1001).getBody())
+        .isEqualTo(ErrorDTO.of("Size must be between 1 and 1000"));
+  }
+
   @Test
   @DisplayName("findPeople Should return status code 200")
   void testFindPeopleShouldReturnStatusCode200() {
@@ -140,14 +285,13 @@ class PeopleServiceImplementationTest {
   }
 
   @Test
-  @DisplayName("findPeople Should throw exception when people not found")
-  void testFindPeopleShouldThrowExceptionWhenPeopleNotFound() {
-    try {
-      peopleServiceImplementation.findPeople("Ana", "20/12/1990");
-    } catch (Exception e) {
-      assertThat(e.getMessage()).isEqualTo(
-          "People with name: Ana and Birth Date: 20/12/1990-> Not found");
-    }
+  @DisplayName("findPeople Should return status code 404 when people not found")
+  void testFindPeopleShouldReturnStatusCode404WhenPeopleNotFound() {
+    var response = peopleServiceImplementation.findPeople("Ana", "20/12/1990");
+
+    assertThat(response.getStatusCode().value()).isEqualTo(404);
+    assertThat(response.getBody()).isEqualTo(ErrorDTO.of(
+        "People with name: Ana and Birth Date: 20/12/1990-> Not found"));
   }
 
   @Test
@@ -163,6 +307,286 @@ class PeopleServiceImplementationTest {
     assertThat(response.getBody().toString()).contains("20/12/1990");
   }
 
+  @Test
+  @DisplayName("findPeople Should serve repeated reads from the response cache")
+  void testFindPeopleShouldServeRepeatedReadsFromTheResponseCache() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+    peopleRepository.save(new PeopleEntity("Ana", birthDate));
+
+    var first = peopleServiceImplementation.findPeople("Ana", "20/12/1990");
+    var second = peopleServiceImplementation.findPeople("Ana", "20/12/1990");
+    var peopleStats = responseCache.stats().get(0);
+
+    assertThat(second.getBody()).isSameAs(first.getBody());
+    assertThat(peopleStats.hits()).isEqualTo(1);
+    assertThat(peopleStats.misses()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("findPeople Should share the result of a concurrent load of the same key")
+  void testFindPeopleShouldShareTheResultOfAConcurrentLoadOfTheSameKey() throws Exception {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+    var key = new PeopleKey("Ana", birthDate);
+    var release = new CountDownLatch(1);
+    var shared = new CachedJson(null, new byte[0], "\"shared\"");
+    var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    peopleRepository.save(new PeopleEntity("Ana", birthDate));
+    statistics.clear();
+
+    var leader = CompletableFuture.supplyAsync(() ->
+        responseCache.loadPeople(key, responseCache.stamp(), () -> {
+          awaitUninterruptibly(release);
+          return shared;
+        }));
+    var follower = new CompletableFuture<ResponseEntity<?>>();
+    var followerThread = new Thread(() ->
+        follower.complete(peopleServiceImplementation.findPeople("Ana", "20/12/1990")));
+
+    awaitInFlight("people", 1);
+    followerThread.start();
+    awaitWaiting(followerThread);
+    release.countDown();
+
+    assertThat(follower.get(5, TimeUnit.SECONDS).getBody()).isSameAs(shared);
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(shared);
+    assertThat(singleFlightCalls("people", "coalesced")).isEqualTo(1.0);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(0);
+  }
+
+  @Test
+  @DisplayName("findPeople Should not join a load that started before a write")
+  void testFindPeopleShouldNotJoinALoadThatStartedBeforeAWrite() throws Exception {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+    var key = new PeopleKey("Ana", birthDate);
+    var release = new CountDownLatch(1);
+
+    peopleRepository.save(new PeopleEntity("Ana", birthDate));
+
+    var stale = CompletableFuture.supplyAsync(() ->
+        responseCache.loadPeople(key, responseCache.stamp(), () -> {
+          awaitUninterruptibly(release);
+          return null;
+        }));
+
+    awaitInFlight("people", 1);
+    responseCache.invalidate(key);
+
+    var response = peopleServiceImplementation.findPeople("Ana", "20/12/1990");
+
+    release.countDown();
+    stale.get(5, TimeUnit.SECONDS);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(200);
+    assertThat(response.getBody().toString()).contains("Ana");
+    assertThat(singleFlightCalls("people", "coalesced")).isEqualTo(0.0);
+    assertThat(singleFlightCalls("people", "leader")).isEqualTo(2.0);
+  }
+
+  @Test
+  @DisplayName("findPeople Should rethrow the failure of a joined load and then load again")
+  void testFindPeopleShouldRethrowTheFailureOfAJoinedLoadAndThenLoadAgain() throws Exception {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+    var key = new PeopleKey("Ana", birthDate);
+    var release = new CountDownLatch(1);
+
+    peopleRepository.save(new PeopleEntity("Ana", birthDate));
+
+    var leader = CompletableFuture.runAsync(() ->
+        responseCache.loadPeople(key, responseCache.stamp(), () -> {
+          awaitUninterruptibly(release);
+          throw new IllegalStateException("Database unavailable");
+        }));
+    var follower = new CompletableFuture<ResponseEntity<?>>();
+    var followerThread = new Thread(() -> {
+      try {
+        follower.complete(peopleServiceImplementation.findPeople("Ana", "20/12/1990"));
+      } catch (RuntimeException e) {
+        follower.completeExceptionally(e);
+      }
+    });
+
+    awaitInFlight("people", 1);
+    followerThread.start();
+    awaitWaiting(followerThread);
+    release.countDown();
+
+    assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(inFlight("people")).isEqualTo(0.0);
+    assertThat(peopleServiceImplementation.findPeople("Ana", "20/12/1990")
+        .getStatusCode().value()).isEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("findPeople Should answer 304 after a single version lookup when the tag matches")
+  void testFindPeopleShouldAnswer304AfterASingleVersionLookupWhenTheTagMatches() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+    peopleRepository.save(new PeopleEntity("Ana", birthDate));
+
+    var etag = peopleServiceImplementation.findPeople("Ana", "20/12/1990").getHeaders().getETag();
+    var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    responseCache.invalidate(new PeopleKey("Ana", birthDate));
+    statistics.clear();
+    var response = peopleServiceImplementation.findPeople("Ana", "20/12/1990", etag);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(304);
+    assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+    assertThat(response.getBody()).isNull();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("findPeople Should return a new tag after the people is updated")
+  void testFindPeopleShouldReturnANewTagAfterThePeopleIsUpdated() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+    peopleRepository.save(new PeopleEntity("Ana", birthDate));
+    var etag = peopleServiceImplementation.findPeople("Ana", "20/12/1990").getHeaders().getETag();
+
+    peopleServiceImplementation.updatePeople(
+        new PeopleInputDTO("Ana", "20/12/1990", "Ana", "01/01/2000"));
+    var response = peopleServiceImplementation.findPeople("Ana", "01/01/2000", etag);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(200);
+    assertThat(response.getHeaders().getETag()).isNotEqualTo(etag);
+  }
+
+  @Test
+  @DisplayName("listAll Should answer 304 until the page contents change")
+  void testListAllShouldAnswer304UntilThePageContentsChange() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+    peopleRepository.save(new PeopleEntity("Ana", birthDate));
+
+    var etag = peopleServiceImplementation.listAll(0, 4).getHeaders().getETag();
+    var notModified = peopleServiceImplementation.listAll(0, 4, etag);
+
+    peopleServiceImplementation.makePeople("Bruna", "20/12/1990");
+    var modified = peopleServiceImplementation.listAll(0, 4, etag);
+
+    assertThat(notModified.getStatusCode().value()).isEqualTo(304);
+    assertThat(modified.getStatusCode().value()).isEqualTo(200);
+    assertThat(modified.getBody().toString()).contains("Bruna");
+    assertThat(modified.getHeaders().getETag()).isNotEqualTo(etag);
+  }
+
+  @Test
+  @DisplayName("lookupPeople Should return found people and missing keys in two statements")
+  void testLookupPeopleShouldReturnFoundPeopleAndMissingKeysInTwoStatements() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+
+    for (int i = 0; i < 5; i++) {
+      var addresses = List.of(new AddressEntity("Rua " + i, "1", "São Paulo", "04001-000"));
+      peopleRepository.save(new PeopleEntity("Anderson" + i, birthDate, addresses));
+    }
+
+    var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+    var response = peopleServiceImplementation.lookupPeople(List.of(
+        new PeopleKeyDTO("Anderson3", "20/12/1990"),
+        new PeopleKeyDTO("Anderson1", "20/12/1990"),
+        new PeopleKeyDTO("Anderson1", "01/01/2000"),
+        new PeopleKeyDTO("Ana", "20/12/1990"),
+        new PeopleKeyDTO("Anderson3", "20/12/1990")));
+    var body = (PeopleLookupDTO) response.getBody();
+
+    assertThat(response.getStatusCode().value()).isEqualTo(200);
+    assertThat(body.found().stream().map(PeopleDTO::name).toList())
+        .isEqualTo(List.of("Anderson3", "Anderson1"));
+    assertThat(body.found().get(0).addressDTO().get(0).publicPlace()).isEqualTo("Rua 3");
+    assertThat(body.missing()).isEqualTo(List.of(
+        new PeopleKeyDTO("Anderson1", "01/01/2000"),
+        new PeopleKeyDTO("Ana", "20/12/1990")));
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("lookupPeople Should load only the people matching a requested key")
+  void testLookupPeopleShouldLoadOnlyThePeopleMatchingARequestedKey() {
+    for (int year = 1990; year < 1995; year++) {
+      peopleRepository.save(new PeopleEntity("Anderson", LocalDate.of(year, 12, 20)));
+    }
+
+    var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+    var response = peopleServiceImplementation.lookupPeople(List.of(
+        new PeopleKeyDTO("Anderson", "20/12/1992")));
+    var body = (PeopleLookupDTO) response.getBody();
+
+    assertThat(response.getStatusCode().value()).isEqualTo(200);
+    assertThat(body.found().get(0).birthDate()).isEqualTo("20/12/1992");
+    assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("lookupPeople Should return status code 400 when a key is incomplete or invalid")
+  void testLookupPeopleShouldReturnStatusCode400WhenAKeyIsIncompleteOrInvalid() {
+    var withoutName = peopleServiceImplementation.lookupPeople(List.of(
+        new PeopleKeyDTO("Anderson", "20/12/1990"),
+        new PeopleKeyDTO(null, "20/12/1990")));
+    var withoutBirthDate = peopleServiceImplementation.lookupPeople(List.of(
+        new PeopleKeyDTO("Anderson", null)));
+    var invalidBirthDate = peopleServiceImplementation.lookupPeople(List.of(
+        new PeopleKeyDTO("Anderson", "1990-12-20")));
+
+    assertThat(withoutName.getStatusCode().value()).isEqualTo(400);
+    assertThat(withoutName.getBody())
+        .isEqualTo(ErrorDTO.of("Key 1: name and birthDate are required"));
+    assertThat(withoutBirthDate.getStatusCode().value()).isEqualTo(400);
+    assertThat(withoutBirthDate.getBody())
+        .isEqualTo(ErrorDTO.of("Key 0: name and birthDate are required"));
+    assertThat(invalidBirthDate.getStatusCode().value()).isEqualTo(400);
+    assertThat(invalidBirthDate.getBody().toString()).contains("Key 0: ");
+  }
+
+  @Test
+  @DisplayName("lookupPeople Should return status code 400 when there are too many keys")
+  void testLookupPeopleShouldReturnStatusCode400WhenThereAreTooManyKeys() {
+    var peopleKeys = new ArrayList<PeopleKeyDTO>();
+
+    for (int i = 0; i <= 1000; i++) {
+      peopleKeys.add(new PeopleKeyDTO("Anderson" + i, "20/12/1990"));
+    }
+
+    var response = peopleServiceImplementation.lookupPeople(peopleKeys);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(400);
+    assertThat(response.getBody()).isEqualTo(ErrorDTO.of("Lookup accepts at most 1000 keys"));
+  }
+
+  @Test
+  @DisplayName("updatePeople Should invalidate cached response")
+  void testUpdatePeopleShouldInvalidateCachedResponse() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+    peopleRepository.save(new PeopleEntity("Ana", birthDate));
+    peopleServiceImplementation.findPeople("Ana", "20/12/1990");
+
+    var inputDTO = new PeopleInputDTO("Ana", "20/12/1990", "Ana", "01/01/2000");
+    peopleServiceImplementation.updatePeople(inputDTO);
+
+    assertThat(peopleServiceImplementation.findPeople("Ana", "20/12/1990").getStatusCode().value())
+        .isEqualTo(404);
+    assertThat(peopleServiceImplementation.findPeople("Ana", "01/01/2000").getBody().toString())
+        .contains("01/01/2000");
+  }
+
+  @Test
+  @DisplayName("deletePeople Should invalidate cached response")
+  void testDeletePeopleShouldInvalidateCachedResponse() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+    peopleRepository.save(new PeopleEntity("Ana", birthDate));
+    peopleServiceImplementation.findPeople("Ana", "20/12/1990");
+
+    peopleServiceImplementation.deletePeople("Ana", "20/12/1990");
+
+    assertThat(peopleServiceImplementation.findPeople("Ana", "20/12/1990").getStatusCode().value())
+        .isEqualTo(404);
+  }
+
   @Test
   @DisplayName("findPeople Should throw exception when date is invalid")
   void testFindPeopleShouldThrowExceptionWhenDateIsInvalid() {
@@ -174,6 +598,72 @@ class PeopleServiceImplementationTest {
     }
   }
 
+  @Test
+  @DisplayName("searchPeople Should page through names starting with the prefix")
+  void testSearchPeopleShouldPageThroughNamesStartingWithThePrefix() {
+    peopleServiceImplementation.makePeople("Anderson", "20/12/1990");
+    peopleServiceImplementation.makePeople("Ana", "20/12/1990");
+    peopleServiceImplementation.makePeople("Ana", "01/01/2000");
+    peopleServiceImplementation.makePeople("Pedro", "20/12/1990");
+
+    var firstPage = peopleServiceImplementation.searchPeople("an", "", 2);
+    var secondPage = peopleServiceImplementation.searchPeople(
+        "an", firstPage.getHeaders().getFirst("x-next-cursor"), 2);
+
+    assertThat(firstPage.getBody()).isEqualTo(List.of(
+        new PeopleSummaryDTO("Ana", "20/12/1990"), new PeopleSummaryDTO("Ana", "01/01/2000")));
+    assertThat(secondPage.getBody()).isEqualTo(List.of(
+        new PeopleSummaryDTO("Anderson", "20/12/1990")));
+    assertThat(secondPage.getHeaders().containsKey("x-next-cursor")).isFalse();
+  }
+
+  @Test
+  @DisplayName("searchPeople Should find people already in the database when the index loads")
+  void testSearchPeopleShouldFindPeopleAlreadyInTheDatabaseWhenTheIndexLoads() {
+    peopleRepository.save(new PeopleEntity("Ana", LocalDate.of(1990, 12, 20)));
+
+    nameIndex.afterSingletonsInstantiated();
+
+    assertThat(peopleServiceImplementation.searchPeople("a", "", 10).getBody())
+        .isEqualTo(List.of(new PeopleSummaryDTO("Ana", "20/12/1990")));
+  }
+
+  @Test
+  @DisplayName("searchPeople Should return status code 400 when size is out of range")
+  void testSearchPeopleShouldReturnStatusCode400WhenSizeIsOutOfRange() {
+    assertThat(peopleServiceImplementation.searchPeople("a", "", 0).getStatusCode().value())
+        .isEqualTo(400);
+    assertThat(peopleServiceImplementation.searchPeople("a", "", 1001).getStatusCode().value())
+        .isEqualTo(400);
+  }
+
+  @Test
+  @DisplayName("searchPeople Should ignore case and accents")
+  void testSearchPeopleShouldIgnoreCaseAndAccents() {
+    peopleServiceImplementation.makePeople("João", "20/12/1990");
+
+    var response = peopleServiceImplementation.searchPeople("JOA", "", 10);
+
+    assertThat(response.getBody()).isEqualTo(List.of(
+        new PeopleSummaryDTO("João", "20/12/1990")));
+  }
+
+  @Test
+  @DisplayName("searchPeople Should follow updates and deletes")
+  void testSearchPeopleShouldFollowUpdatesAndDeletes() {
+    peopleServiceImplementation.makePeople("Ana", "20/12/1990");
+    peopleServiceImplementation.makePeople("Pedro", "20/12/1990");
+
+    peopleServiceImplementation.updatePeople(
+        new PeopleInputDTO("Ana", "20/12/1990", "Paula", ""));
+    peopleServiceImplementation.deletePeople("Pedro", "20/12/1990");
+
+    assertThat(peopleServiceImplementation.searchPeople("an", "", 10).getBody())
+        .isEqualTo(List.of());
+    assertThat(peopleServiceImplementation.searchPeople("p", "", 10).getBody())
+        .isEqualTo(List.of(new PeopleSummaryDTO("Paula", "20/12/1990")));
+  }
+
   @Test
   @DisplayName("makePeople Should return status code 201")
   void testMakePeopleShouldReturnStatusCode201() {
@@ -183,18 +673,17 @@ class PeopleServiceImplementationTest {
   }
 
   @Test
-  @DisplayName("makePeople Should throw exception when people already exists")
-  void testMakePeopleShouldThrowExceptionWhenPeopleAlreadyExists() {
+  @DisplayName("makePeople Should return status code 400 when people already exists")
+  void testMakePeopleShouldReturnStatusCode400WhenPeopleAlreadyExists() {
     var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
     var peopleEntity = new PeopleEntity("Ana", birthDate);
     peopleRepository.save(peopleEntity);
 
-    try {
-      peopleServiceImplementation.makePeople("Ana", "20/12/1990");
-    } catch (Exception e) {
-      assertThat(e.getMessage()).isEqualTo(
-          "People with name: Ana and Birth Date: 20/12/1990-> Already Exist");
-    }
+    var response = peopleServiceImplementation.makePeople("Ana", "20/12/1990");
+
+    assertThat(response.getStatusCode().value()).isEqualTo(400);
+    assertThat(response.getBody()).isEqualTo(ErrorDTO.of(
+        "People with name: Ana and Birth Date: 20/12/1990-> Already Exist"));
   }
 
   @Test
@@ -223,15 +712,14 @@ class PeopleServiceImplementationTest {
   }
 
   @Test
-  @DisplayName("replacePeople Should throw exception when people not found")
-  void testReplacePeopleShouldThrowExceptionWhenPeopleNotFound() {
+  @DisplayName("replacePeople Should return status code 404 when people not found")
+  void testReplacePeopleShouldReturnStatusCode404WhenPeopleNotFound() {
     var inputDTO = new PeopleInputDTO("Ana", "20/12/1990", "Anderson", "01/01/2000");
-    try {
-      peopleServiceImplementation.replacePeople(inputDTO);
-    } catch (Exception e) {
-      assertThat(e.getMessage()).isEqualTo(
-          "People with name: Ana and Birth Date: 20/12/1990-> Not found");
-    }
+    var response = peopleServiceImplementation.replacePeople(inputDTO);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(404);
+    assertThat(response.getBody()).isEqualTo(ErrorDTO.of(
+        "People with name: Ana and Birth Date: 20/12/1990-> Not found"));
   }
 
   @Test
@@ -272,13 +760,11 @@ class PeopleServiceImplementationTest {
     peopleRepository.save(peopleEntity);
 
     var inputDTO = new PeopleInputDTO("Ana", "20/12/1990", "Ana", "20/12/1990");
-    try {
-      peopleServiceImplementation.replacePeople(inputDTO);
-    } catch (Exception e) {
-      assertThat(e.getMessage()).isEqualTo(
-          "People with name: Ana and Birth Date: 20/12/1990-> Already Exist");
-      assertThat(e.getClass()).isEqualTo(UserExistsException.class);
-    }
+    var response = peopleServiceImplementation.replacePeople(inputDTO);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(400);
+    assertThat(response.getBody()).isEqualTo(ErrorDTO.of(
+        "People with name: Ana and Birth Date: 20/12/1990-> Already Exist"));
   }
 
   @Test
@@ -296,16 +782,14 @@ class PeopleServiceImplementationTest {
   }
 
   @Test
-  @DisplayName("updatePeople Should throw exception when people not found")
-  void testUpdatePeopleShouldThrowExceptionWhenPeopleNotFound() {
+  @DisplayName("updatePeople Should return status code 404 when people not found")
+  void testUpdatePeopleShouldReturnStatusCode404WhenPeopleNotFound() {
     var inputDTO = new PeopleInputDTO("Ana", "20/12/1990", "Anderson", "01/01/2000");
-    try {
-      peopleServiceImplementation.updatePeople(inputDTO);
-    } catch (Exception e) {
-      assertThat(e.getMessage()).isEqualTo(
-          "People with name: Ana and Birth Date: 20/12/1990-> Not found");
-      assertThat(e.getClass()).isEqualTo(UserNotFoundException.class);
-    }
+    var response = peopleServiceImplementation.updatePeople(inputDTO);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(404);
+    assertThat(response.getBody()).isEqualTo(ErrorDTO.of(
+        "People with name: Ana and Birth Date: 20/12/1990-> Not found"));
   }
 
   @Test
@@ -363,13 +847,39 @@ class PeopleServiceImplementationTest {
     peopleRepository.save(peopleEntity);
 
     var inputDTO = new PeopleInputDTO("Ana", "20/12/1990", "Ana", "20/12/1990");
-    try {
-      peopleServiceImplementation.updatePeople(inputDTO);
-    } catch (Exception e) {
-      assertThat(e.getMessage()).isEqualTo(
-          "People with name: Ana and Birth Date: 20/12/1990-> Already Exist");
-      assertThat(e.getClass()).isEqualTo(UserExistsException.class);
-    }
+    var response = peopleServiceImplementation.updatePeople(inputDTO);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(200);
+    assertThat(peopleRepository.findById(1L).get().getName()).isEqualTo("Ana");
+  }
+
+  @Test
+  @DisplayName("updatePeople Should return status code 400 when new name and birth date belong to another people")
+  void testUpdatePeopleShouldReturnStatusCode400WhenNewKeyBelongsToAnotherPeople() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+
+    peopleRepository.save(new PeopleEntity("Ana", birthDate));
+    peopleRepository.save(new PeopleEntity("Anderson", birthDate));
+
+    var inputDTO = new PeopleInputDTO("Ana", "20/12/1990", "Anderson", "20/12/1990");
+
+    var response = peopleServiceImplementation.updatePeople(inputDTO);
+
+    assertThat(response.getStatusCode().value()).isEqualTo(400);
+    assertThat(response.getBody()).isEqualTo(ErrorDTO.of(
+        "People with name: Anderson and Birth Date: 20/12/1990-> Already Exist"));
+    assertThat(peopleRepository.findById(1L).get().getName()).isEqualTo("Ana");
+  }
+
+  @Test
+  @DisplayName("people table Should reject duplicated name and birth date")
+  void testPeopleTableShouldRejectDuplicatedNameAndBirthDate() {
+    var birthDate = LocalDate.parse("20/12/1990", DateTimeFormatter.ofPattern("d/MM/yyyy"));
+
+    peopleRepository.save(new PeopleEntity("Ana", birthDate));
+
+    assertThatThrownBy(() -> peopleRepository.save(new PeopleEntity("Ana", birthDate)))
+        .isInstanceOf(DataIntegrityViolationException.class);
   }
 
   @Test
@@ -386,15 +896,13 @@ class PeopleServiceImplementationTest {
   }
 
   @Test
-  @DisplayName("deletePeople Should throw exception when people not found")
-  void testDeletePeopleShouldThrowExceptionWhenPeopleNotFound() {
-    try {
-      peopleServiceImplementation.deletePeople("Ana", "20/12/1990");
-    } catch (Exception e) {
-      assertThat(e.getMessage()).isEqualTo(
-          "People with name: Ana and Birth Date: 20/12/1990-> Not found");
-      assertThat(e.getClass()).isEqualTo(UserNotFoundException.class);
-    }
+  @DisplayName("deletePeople Should return status code 404 when people not found")
+  void testDeletePeopleShouldReturnStatusCode404WhenPeopleNotFound() {
+    var response = peopleServiceImplementation.deletePeople("Ana", "20/12/1990");
+
+    assertThat(response.getStatusCode().value()).isEqualTo(404);
+    assertThat(response.getBody()).isEqualTo(ErrorDTO.of(
+        "People with name: Ana and Birth Date: 20/12/1990-> Not found"));
   }
 
   @Test
@@ -421,5 +929,33 @@ class PeopleServiceImplementationTest {
     assertThat(peopleRepository.findById(1L)).isEmpty();
   }
 
+  private double singleFlightCalls(String cache, String outcome) {
+    return meterRegistry.get("people.singleflight.calls")
+        .tag("cache", cache).tag("outcome", outcome).counter().count();
+  }
+
+  private double inFlight(String cache) {
+    return meterRegistry.get("people.singleflight.inflight").tag("cache", cache).gauge().value();
+  }
+
+  private void awaitInFlight(String cache, int flights) throws InterruptedException {
+    while (inFlight(cache) != flights) {
+      Thread.sleep(1);
+    }
+  }
+
+  private static void awaitWaiting(Thread thread) throws InterruptedException {
+    while (thread.getState() != Thread.State.TIMED_WAITING) {
+      Thread.sleep(1);
+    }
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
 
-}
\ No newline at end of file
+}